@@ -17,6 +17,7 @@ val minecraftVersion: String by project
 val recommendedVersion: String by project
 
 val asmVersion: String by project
+val jmhVersion: String by project
 val modlauncherVersion: String by project
 val mixinVersion: String by project
 val pluginSpiVersion: String by project
@@ -174,6 +175,12 @@ val accessors by sourceSets.registering {
         extendsFrom(accessorsConfig)
     }
 }
+// JMH benchmarks, run with 'gradle jmh'
+val jmh by sourceSets.registering {
+    compileClasspath += main.output + main.compileClasspath
+    runtimeClasspath += main.output + main.runtimeClasspath
+}
+
 val mixins by sourceSets.registering {
     applyNamedDependencyOnOutput(originProject = project, sourceAdding = launch.get(), targetSource = this, implProject = project, dependencyConfigName = this.implementationConfigurationName)
     applyNamedDependencyOnOutput(originProject = project, sourceAdding = applaunch.get(), targetSource = this, implProject = project, dependencyConfigName = this.implementationConfigurationName)
@@ -254,6 +261,23 @@ dependencies {
     // Tests
     testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$junitVersion")
+
+    // Benchmarks
+    add(jmh.get().implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(jmh.get().annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register("jmh", JavaExec::class) {
+    group = "verification"
+    description = "Runs the JMH benchmarks, use -PjmhIncludes=<regex> to select benchmarks."
+    val results = project.layout.buildDirectory.file("reports/jmh/results.json")
+    classpath = jmh.get().runtimeClasspath
+    main = "org.openjdk.jmh.Main"
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    (project.findProperty("jmhIncludes") as String?)?.let { args(it) }
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
 }
 /*val extraSrgs = file("extra.srgs")
 mixin {
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class AsyncEventsCategory {
+
+    @Setting("parallel-listeners")
+    @Comment("If 'true', events posted off the main thread run their async-safe\n"
+             + "listeners of the same order in parallel on a shared pool. Listeners\n"
+             + "of the next order only run once all listeners of the previous order\n"
+             + "completed, so order and cancellation semantics are kept. This lets\n"
+             + "listeners doing I/O, such as login and auth listeners, not hold up\n"
+             + "each other.")
+    public boolean parallelListeners = false;
+
+    @Setting("parallelism")
+    @Comment("The number of threads of the shared listener pool.\n"
+             + "If '0' or lower, the number of available processors is used.")
+    public int parallelism = 0;
+
+    @Setting("async-safe-listeners")
+    @Comment("The listeners that are safe to run in parallel with other listeners.\n"
+             + "Entries are either a plugin id, to mark all listeners of that plugin,\n"
+             + "or the fully qualified class name of a listener object.\n"
+             + "Changes apply to listeners registered afterwards.")
+    public final List<String> asyncSafeListeners = new ArrayList<>();
+}
@@ -73,6 +73,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting("async-events")
+    @Comment("Configuration options related to events posted off the main thread")
+    public final AsyncEventsCategory asyncEvents = new AsyncEventsCategory();
+
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
@@ -84,6 +88,14 @@ public final class CommonConfig implements Config {
     @Comment("Enables server owners to require specific plugins to provide Sponge services")
     public final ServicesCategory services = new ServicesCategory();
 
+    @Setting
+    @Comment("Configuration options related to the scheduling and execution of plugin tasks")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
+    @Setting
+    @Comment("Configuration options related to the network connections of players")
+    public final NetworkCategory network = new NetworkCategory();
+
     @Setting
     public final DebugCategory debug = new DebugCategory();
 
@@ -0,0 +1,51 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class NetworkCategory {
+
+    @Setting("coalesce-channel-packets")
+    @Comment("If 'true', packets sent by plugin channels to players are written\n"
+             + "to the connection without flushing it, and every connection with\n"
+             + "pending packets is flushed once at the end of the server tick.\n"
+             + "This saves a syscall per packet for plugins that send many small\n"
+             + "packets, at the cost of up to one tick of extra latency.")
+    public boolean coalesceChannelPackets = false;
+
+    @Setting("coalesce-max-bytes")
+    @Comment("The amount of pending payload bytes, per connection, after which\n"
+             + "the connection is flushed right away instead of at the end of the tick.")
+    public int coalesceMaxBytes = 32768;
+
+    @Setting("transaction-timeout")
+    @Comment("The time, in seconds, a request sent through a plugin channel waits\n"
+             + "for the response of the other side before it fails with a timeout.")
+    public int transactionTimeout = 15;
+}
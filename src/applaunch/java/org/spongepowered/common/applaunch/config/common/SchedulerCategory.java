@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    public static final String CACHED_EXECUTOR = "cached";
+    public static final String WORK_STEALING_EXECUTOR = "work-stealing";
+
+    @Setting("async-executor")
+    @Comment("The executor model used to run asynchronous scheduled tasks.\n"
+             + "'cached' creates a new thread whenever no idle thread is available,\n"
+             + "which is unbounded and may create hundreds of threads during bursts.\n"
+             + "'work-stealing' runs tasks on a bounded work-stealing pool of\n"
+             + "'async-parallelism' threads. Requires a restart to take effect.")
+    public String asyncExecutor = SchedulerCategory.CACHED_EXECUTOR;
+
+    @Setting("async-parallelism")
+    @Comment("The number of threads of the 'work-stealing' executor.\n"
+             + "If '0' or lower, the number of available processors is used.")
+    public int asyncParallelism = 0;
+
+    @Setting("async-max-concurrent-tasks-per-plugin")
+    @Comment("The maximum number of asynchronous tasks a single plugin may run\n"
+             + "at the same time. Tasks over this quota wait in a queue owned by\n"
+             + "the plugin, so one plugin cannot take over the executor.\n"
+             + "If '0' or lower, plugins are not limited.")
+    public int asyncMaxConcurrentTasksPerPlugin = 0;
+
+    @Setting("sync-tick-budget")
+    @Comment("The maximum time, in milliseconds, the synchronous scheduler may spend\n"
+             + "running due tasks in a single tick. Tasks that would overflow the\n"
+             + "budget are deferred to the next tick, ahead of the tasks that become\n"
+             + "due later, and counted per plugin in '/sponge scheduler'. At least\n"
+             + "one task of both the tick and real time queues always runs per tick.\n"
+             + "If '0' or lower, there is no budget.")
+    public int syncTickBudget = 0;
+}
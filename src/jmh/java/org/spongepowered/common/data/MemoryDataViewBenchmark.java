@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building, reading and copying a {@link MemoryDataContainer} shaped
+ * like a serialized item stack. Run with {@code -prof gc} to also see the
+ * allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryDataViewBenchmark {
+
+    private static final DataQuery CONTENT_VERSION = DataQuery.of("ContentVersion");
+    private static final DataQuery ITEM_TYPE = DataQuery.of("ItemType");
+    private static final DataQuery QUANTITY = DataQuery.of("Count");
+    private static final DataQuery DAMAGE = DataQuery.of("UnsafeData", "Damage");
+    private static final DataQuery UNBREAKABLE = DataQuery.of("UnsafeData", "Unbreakable");
+    private static final DataQuery DISPLAY_NAME = DataQuery.of("UnsafeData", "display", "Name");
+    private static final DataQuery CUSTOM_MODEL = DataQuery.of("UnsafeData", "CustomModelData");
+    private static final DataQuery PLUGIN_VALUE = DataQuery.of("UnsafeData", "PublicBukkitValues", "example:value");
+
+    private DataContainer container;
+
+    @Setup
+    public void setup() {
+        this.container = MemoryDataViewBenchmark.build();
+    }
+
+    @Benchmark
+    public DataContainer build() {
+        return MemoryDataViewBenchmark.build();
+    }
+
+    @Benchmark
+    public void readNested(final Blackhole blackhole) {
+        blackhole.consume(this.container.getString(MemoryDataViewBenchmark.ITEM_TYPE));
+        blackhole.consume(this.container.getInt(MemoryDataViewBenchmark.DAMAGE));
+        blackhole.consume(this.container.getBoolean(MemoryDataViewBenchmark.UNBREAKABLE));
+        blackhole.consume(this.container.getString(MemoryDataViewBenchmark.DISPLAY_NAME));
+        blackhole.consume(this.container.getString(MemoryDataViewBenchmark.PLUGIN_VALUE));
+    }
+
+    @Benchmark
+    public Set<DataQuery> keysDeep() {
+        return this.container.getKeys(true);
+    }
+
+    @Benchmark
+    public DataContainer copy() {
+        return this.container.copy();
+    }
+
+    private static DataContainer build() {
+        return new MemoryDataContainer(DataView.SafetyMode.ALL_DATA_CLONED)
+                .set(MemoryDataViewBenchmark.CONTENT_VERSION, 1)
+                .set(MemoryDataViewBenchmark.ITEM_TYPE, "minecraft:diamond_sword")
+                .set(MemoryDataViewBenchmark.QUANTITY, 1)
+                .set(MemoryDataViewBenchmark.DAMAGE, 12)
+                .set(MemoryDataViewBenchmark.UNBREAKABLE, (byte) 1)
+                .set(MemoryDataViewBenchmark.DISPLAY_NAME, "{\"text\":\"Benchmark\"}")
+                .set(MemoryDataViewBenchmark.CUSTOM_MODEL, 42)
+                .set(MemoryDataViewBenchmark.PLUGIN_VALUE, "value");
+    }
+}
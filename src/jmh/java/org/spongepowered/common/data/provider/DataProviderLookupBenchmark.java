@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.provider;
+
+import io.leangen.geantyref.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.key.SpongeKey;
+
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving {@link DataProvider}s through the per holder type tables
+ * indexed by {@link SpongeKey#getId()} against the shared lookup key cache,
+ * cycling through a number of keys the way a plugin reading several values
+ * from the same holder would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataProviderLookupBenchmark {
+
+    public static final class Holder {
+    }
+
+    public static final class OtherHolder {
+    }
+
+    @Param({"1", "16", "128"})
+    public int keys;
+
+    private DataProviderRegistry registry;
+    private SpongeKey<Value<Integer>, Integer>[] keyArray;
+    private int index;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        this.registry = new DataProviderRegistry();
+        this.keyArray = new SpongeKey[this.keys];
+        for (int i = 0; i < this.keys; i++) {
+            final SpongeKey<Value<Integer>, Integer> key = new SpongeKey<>(DataProviderLookupBenchmark.resourceKey("key_" + i),
+                    TypeFactory.parameterizedClass(Value.class, Integer.class), Integer.class, Comparator.naturalOrder(),
+                    Objects::equals, () -> 0);
+            this.keyArray[i] = key;
+            this.registry.register(DataProviderLookupBenchmark.provider(key, Holder.class));
+            this.registry.register(DataProviderLookupBenchmark.provider(key, OtherHolder.class));
+        }
+    }
+
+    @Benchmark
+    public DataProvider<Value<Integer>, Integer> providerTable() {
+        return this.registry.getProvider(this.nextKey(), Holder.class);
+    }
+
+    @Benchmark
+    public DataProvider<Value<Integer>, Integer> lookupKeyCache() {
+        return this.registry.getProviderByLookupKey(this.nextKey(), Holder.class);
+    }
+
+    private SpongeKey<Value<Integer>, Integer> nextKey() {
+        final int next = this.index + 1;
+        this.index = next == this.keyArray.length ? 0 : next;
+        return this.keyArray[this.index];
+    }
+
+    private static <H> DataProvider<Value<Integer>, Integer> provider(final SpongeKey<Value<Integer>, Integer> key, final Class<H> holderType) {
+        return new GenericMutableDataProvider<H, Integer>(key, holderType) {
+            @Override
+            protected Optional<Integer> getFrom(final H dataHolder) {
+                return Optional.of(0);
+            }
+        };
+    }
+
+    private static ResourceKey resourceKey(final String value) {
+        // Keys compare by identity, nothing else is needed from the resource key
+        return (ResourceKey) Proxy.newProxyInstance(ResourceKey.class.getClassLoader(), new Class<?>[] {ResourceKey.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return "benchmark:" + value;
+                    }
+                });
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.ConfigHandle;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+/**
+ * A minimal environment to run the event manager outside of a server. The
+ * game reports neither a server nor a client, so events are posted the same
+ * way they are posted from an asynchronous thread, and the common configuration
+ * holds its defaults.
+ */
+public final class BenchmarkEnvironment {
+
+    private static boolean initialized;
+
+    public static synchronized void initialize() throws ReflectiveOperationException {
+        if (BenchmarkEnvironment.initialized) {
+            return;
+        }
+        final Game game = BenchmarkEnvironment.stub(Game.class);
+        final Field field = Sponge.class.getDeclaredField("game");
+        field.setAccessible(true);
+        field.set(null, game);
+        // The default configuration, as there is no config directory to load from
+        final Field common = SpongeConfigs.class.getDeclaredField("sponge");
+        common.setAccessible(true);
+        common.set(null, new ConfigHandle<CommonConfig>(new CommonConfig()) {});
+        BenchmarkEnvironment.initialized = true;
+    }
+
+    public static PluginContainer plugin() {
+        return BenchmarkEnvironment.stub(PluginContainer.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Benchmark" + type.getSimpleName();
+                default:
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    return null;
+            }
+        });
+    }
+
+    private BenchmarkEnvironment() {
+    }
+}
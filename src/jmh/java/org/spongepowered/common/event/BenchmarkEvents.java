@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import io.leangen.geantyref.TypeToken;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.GenericEvent;
+
+public final class BenchmarkEvents {
+
+    public static final Cause CAUSE = Cause.of(EventContext.empty(), "jmh");
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final TestObject testObject = new TestObject();
+        private boolean cancelled;
+
+        @Override
+        public Cause getCause() {
+            return BenchmarkEvents.CAUSE;
+        }
+
+        public TestObject getTestObject() {
+            return this.testObject;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(final boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class SubEvent extends TestEvent {
+
+    }
+
+    public static class GenericTestEvent<T> extends TestEvent implements GenericEvent<T> {
+
+        private final TypeToken<T> token;
+
+        public GenericTestEvent(final TypeToken<T> token) {
+            this.token = token;
+        }
+
+        @Override
+        public TypeToken<T> getParamType() {
+            return this.token;
+        }
+    }
+
+    public static class TestObject {
+
+    }
+
+    private BenchmarkEvents() {
+    }
+}
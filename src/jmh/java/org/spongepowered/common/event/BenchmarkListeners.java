@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+public final class BenchmarkListeners {
+
+    public static final class Plain {
+
+        private final Blackhole blackhole;
+
+        public Plain(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Listener
+        public void onEvent(final BenchmarkEvents.TestEvent event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    public static final class Generic {
+
+        private final Blackhole blackhole;
+
+        public Generic(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Listener
+        public void onEvent(final BenchmarkEvents.GenericTestEvent<String> event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    public static final class Cancelling {
+
+        @Listener(order = Order.FIRST)
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onEvent(final BenchmarkEvents.TestEvent event) {
+            event.setCancelled(true);
+        }
+    }
+
+    public static final class Filtered {
+
+        private final Blackhole blackhole;
+
+        public Filtered(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Listener
+        public void plain(final BenchmarkEvents.TestEvent event) {
+            this.blackhole.consume(event);
+        }
+
+        @Listener
+        public void getter(final BenchmarkEvents.TestEvent event, @Getter("getTestObject") final BenchmarkEvents.TestObject object) {
+            this.blackhole.consume(object);
+        }
+
+        @Listener
+        public void first(final BenchmarkEvents.TestEvent event, @First final String source) {
+            this.blackhole.consume(source);
+        }
+
+        @Listener
+        @Include(BenchmarkEvents.SubEvent.class)
+        public void include(final BenchmarkEvents.TestEvent event) {
+            this.blackhole.consume(event);
+        }
+
+        @Listener
+        @Include(BenchmarkEvents.SubEvent.class)
+        public void chain(final BenchmarkEvents.TestEvent event, @Getter("getTestObject") final BenchmarkEvents.TestObject object,
+                @First final String source) {
+            this.blackhole.consume(object);
+            this.blackhole.consume(source);
+        }
+    }
+
+    private BenchmarkListeners() {
+    }
+}
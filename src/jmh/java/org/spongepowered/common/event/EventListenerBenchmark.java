@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the listeners generated by {@link ClassEventListenerFactory},
+ * including the filter chains generated for {@code @Getter}, {@code @First}
+ * and {@code @Include}, as well as the generation itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListenerBenchmark {
+
+    @Param({"plain", "getter", "first", "include", "chain"})
+    public String filter;
+
+    private BenchmarkListeners.Filtered handle;
+    private Method method;
+    private AnnotatedEventListener listener;
+    private BenchmarkEvents.TestEvent event;
+
+    @Setup
+    public void setup(final Blackhole blackhole) throws Exception {
+        this.handle = new BenchmarkListeners.Filtered(blackhole);
+        for (final Method method : BenchmarkListeners.Filtered.class.getMethods()) {
+            if (method.getName().equals(this.filter)) {
+                this.method = method;
+            }
+        }
+        this.listener = EventListenerBenchmark.createFactory().create(this.handle, this.method);
+        this.event = new BenchmarkEvents.SubEvent();
+    }
+
+    private static AnnotatedEventListener.Factory createFactory() {
+        final DefineableClassLoader classLoader = new DefineableClassLoader(EventListenerBenchmark.class.getClassLoader());
+        return new ClassEventListenerFactory("org.spongepowered.common.event.listener",
+                new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+    }
+
+    @Benchmark
+    public void handle() throws Exception {
+        this.listener.handle(this.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Measurement(iterations = 20, batchSize = 1)
+    public AnnotatedEventListener generate() throws Exception {
+        // A fresh factory, as generated classes are cached per method
+        return EventListenerBenchmark.createFactory().create(this.handle, this.method);
+    }
+}
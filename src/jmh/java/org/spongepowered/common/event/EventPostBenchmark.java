@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import io.leangen.geantyref.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SpongeEventManager#post} for a growing number of listeners,
+ * for generic and non generic events, and with the event cancelled by the
+ * first listener so that the generated filters short-circuit the others.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPostBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int listeners;
+
+    @Param({"false", "true"})
+    public boolean generic;
+
+    @Param({"false", "true"})
+    public boolean cancelled;
+
+    private SpongeEventManager eventManager;
+    private BenchmarkEvents.TestEvent event;
+
+    @Setup
+    public void setup(final Blackhole blackhole) throws ReflectiveOperationException {
+        BenchmarkEnvironment.initialize();
+        final PluginContainer plugin = BenchmarkEnvironment.plugin();
+        this.eventManager = new SpongeEventManager(LogManager.getLogger("jmh"));
+        if (this.cancelled) {
+            this.eventManager.registerListeners(plugin, new BenchmarkListeners.Cancelling());
+        }
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListeners(plugin, this.generic ? new BenchmarkListeners.Generic(blackhole)
+                    : new BenchmarkListeners.Plain(blackhole));
+        }
+        this.event = this.generic ? new BenchmarkEvents.GenericTestEvent<>(TypeToken.get(String.class)) : new BenchmarkEvents.TestEvent();
+    }
+
+    @Benchmark
+    public boolean post() {
+        this.event.setCancelled(false);
+        return this.eventManager.post(this.event);
+    }
+}
@@ -45,8 +45,11 @@ public List<String> getMixinConfigs() {
             "mixins.sponge.api.json",
             "mixins.sponge.concurrent.json",
             "mixins.sponge.core.json",
+            "mixins.sponge.entityactivation.json",
+            "mixins.sponge.entitycollision.json",
             "mixins.sponge.exploit.json",
             "mixins.sponge.inventory.json",
+            "mixins.sponge.tileentityactivation.json",
             "mixins.sponge.tracker.json"
         );
     }
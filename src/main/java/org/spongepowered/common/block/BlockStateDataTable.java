@@ -0,0 +1,231 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.holder.DataBag;
+import org.spongepowered.common.data.holder.SpongeDataHolder;
+import org.spongepowered.common.util.CopyHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The elements of every supported {@link Key} of a single block state,
+ * computed once through the data providers. Block states are immutable, so
+ * lookups after that don't need to go through the providers again. A table
+ * is tied to the provider version it was built with and has to be rebuilt
+ * once new providers are registered.
+ */
+public final class BlockStateDataTable {
+
+    private static final AtomicLong TABLES = new AtomicLong();
+    private static final AtomicLong ENTRIES = new AtomicLong();
+    private static final AtomicLong BYTES = new AtomicLong();
+
+    private final Key<?>[] keys;
+    private final DataProvider<?, ?>[] providers;
+    // Null for supported keys without an element
+    private final @Nullable Object[] elements;
+    // Constructed on first use, through the provider as some providers bound their values
+    private final @Nullable Value.Immutable<?>[] values;
+    private final int version;
+    private final AtomicBoolean replaced = new AtomicBoolean();
+
+    private BlockStateDataTable(final Key<?>[] keys, final DataProvider<?, ?>[] providers, final @Nullable Object[] elements, final int version) {
+        this.keys = keys;
+        this.providers = providers;
+        this.elements = elements;
+        this.values = new Value.Immutable<?>[keys.length];
+        this.version = version;
+    }
+
+    public static BlockStateDataTable build(final SpongeDataHolder holder) {
+        // Read before building, a registration while building makes this table stale right away
+        final int version = SpongeDataManager.getProviderRegistry().getProviderVersion();
+        final DataHolder delegate = holder.delegateDataHolder();
+        final List<DataProvider<?, ?>> supported = new ArrayList<>();
+        for (final DataProvider<?, ?> provider : holder.getAllProviders()) {
+            if (provider.isSupported(delegate)) {
+                supported.add(provider);
+            }
+        }
+        final int size = supported.size();
+        final Key<?>[] keys = new Key<?>[size];
+        final DataProvider<?, ?>[] providers = new DataProvider<?, ?>[size];
+        final @Nullable Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            final DataProvider<?, ?> provider = supported.get(i);
+            keys[i] = provider.getKey();
+            providers[i] = provider;
+            elements[i] = provider.get(delegate).orElse(null);
+        }
+        final BlockStateDataTable table = new BlockStateDataTable(keys, providers, elements, version);
+        BlockStateDataTable.TABLES.incrementAndGet();
+        BlockStateDataTable.ENTRIES.addAndGet(size);
+        BlockStateDataTable.BYTES.addAndGet(table.getEstimatedSize());
+        return table;
+    }
+
+    /**
+     * Gets whether this table was built with the currently registered
+     * providers.
+     *
+     * @return Whether this table is up to date
+     */
+    public boolean isCurrent() {
+        return this.version == SpongeDataManager.getProviderRegistry().getProviderVersion();
+    }
+
+    /**
+     * Removes this table from the counters once its block state holds a
+     * newer table instead. Only the first call has any effect.
+     */
+    public void replace() {
+        if (this.replaced.compareAndSet(false, true)) {
+            BlockStateDataTable.TABLES.decrementAndGet();
+            BlockStateDataTable.ENTRIES.addAndGet(-this.keys.length);
+            BlockStateDataTable.BYTES.addAndGet(-this.getEstimatedSize());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> Optional<E> get(final Key<? extends Value<E>> key) {
+        final int index = this.indexOf(key);
+        if (index < 0 || this.elements[index] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CopyHelper.copy((E) this.elements[index]));
+    }
+
+    /**
+     * Gets the value of the given key, constructed by its provider the first
+     * time it is requested. The value is immutable, so it is shared by every
+     * later lookup.
+     *
+     * @param key The key
+     * @param holder The block state this table belongs to
+     * @param <E> The element type
+     * @param <V> The value type
+     * @return The value, if the key is supported and has an element
+     */
+    @SuppressWarnings("unchecked")
+    public <E, V extends Value<E>> Optional<V> getValue(final Key<V> key, final DataHolder holder) {
+        final int index = this.indexOf(key);
+        if (index < 0 || this.elements[index] == null) {
+            return Optional.empty();
+        }
+        @Nullable Value.Immutable<?> value = this.values[index];
+        if (value == null) {
+            final Optional<V> constructed = ((DataProvider<V, E>) this.providers[index]).getValue(holder);
+            if (!constructed.isPresent()) {
+                return Optional.empty();
+            }
+            value = constructed.get().asImmutable();
+            // Racing threads construct equal values, either of them may be kept
+            this.values[index] = value;
+        }
+        return Optional.of((V) value);
+    }
+
+    /**
+     * Gets whether the provider of the given key supports the block state,
+     * which is also the case for supported keys without an element.
+     *
+     * @param key The key
+     * @return Whether the key is supported
+     */
+    public boolean supports(final Key<?> key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    public DataBag readInto(final DataBag bag) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.elements[i] != null) {
+                bag.put(this.keys[i], CopyHelper.copy(this.elements[i]));
+            }
+        }
+        return bag;
+    }
+
+    private int indexOf(final Key<?> key) {
+        // Block states only support a handful of keys, a scan beats hashing here
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets a rough estimate of the memory retained by this table in bytes,
+     * counting the table and its arrays but not the keys and elements, which
+     * are shared with the rest of the game.
+     *
+     * @return The estimated size in bytes
+     */
+    public long getEstimatedSize() {
+        // Object header plus six fields, the replaced flag, and four reference arrays
+        return 36 + 16 + 4 * (16 + 4L * this.keys.length);
+    }
+
+    /**
+     * Gets the number of tables currently held by block states, tables
+     * that were {@link #replace() replaced} after new providers were
+     * registered aren't counted.
+     *
+     * @return The number of tables in use
+     */
+    public static long getTableCount() {
+        return BlockStateDataTable.TABLES.get();
+    }
+
+    public static long getEntryCount() {
+        return BlockStateDataTable.ENTRIES.get();
+    }
+
+    /**
+     * Gets the summed {@link #getEstimatedSize() estimated size} of all the
+     * tables currently held by block states.
+     *
+     * @return The estimated size in bytes
+     */
+    public static long getTableSize() {
+        return BlockStateDataTable.BYTES.get();
+    }
+}
@@ -84,7 +84,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.worldKey = Objects.requireNonNull(builder.worldKey);
         this.pos = Objects.requireNonNull(builder.coordinates);
         this.blockPos = VecHelper.toBlockPos(this.pos);
-        this.compound = builder.compound;
+        // The builder keeps writing to its compound, copy it so lazily
+        // translated containers always read what this snapshot was built with
+        this.compound = builder.compound == null ? null : builder.compound.copy();
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -283,7 +285,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translateLazily(this.compound);
     }
 
     @Override
@@ -0,0 +1,282 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.config.inheritable.BlockEntityActivationCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * The list of tickable block entities of a world, which also schedules the
+ * block entities by their tick rate. A block entity with a tick rate of
+ * {@code N} is placed in bucket {@code id % N} of the wheel for that rate,
+ * so that {@link #iterator(int, InheritableConfigHandle)} only has to visit
+ * the block entities that are due in the given tick instead of every
+ * tickable block entity.
+ *
+ * <p>Newly added block entities tick in the first pass after they were
+ * added and are scheduled afterwards. The wheel is rebuilt whenever the
+ * config of the world is reloaded. Tick rates added to the config while
+ * auto-populating are saved by {@link #saveIfDirty()} once the block
+ * entities have ticked.</p>
+ */
+public final class BlockEntityTickWheel extends AbstractList<BlockEntity> implements RandomAccess {
+
+    private final List<BlockEntity> entries = new ArrayList<>();
+    private final Set<BlockEntity> everyTick = new ReferenceLinkedOpenHashSet<>();
+    private final Int2ObjectMap<Set<BlockEntity>[]> wheels = new Int2ObjectOpenHashMap<>();
+    private final Map<BlockEntity, Set<BlockEntity>> buckets = new Reference2ObjectOpenHashMap<>();
+    private final Set<BlockEntity> unscheduled = new ReferenceLinkedOpenHashSet<>();
+    private final Map<BlockEntityType<?>, Integer> tickRates = new Reference2ObjectOpenHashMap<>();
+    private final List<BlockEntity> due = new ArrayList<>();
+    private @Nullable InheritableConfigHandle<WorldConfig> currentConfig;
+    private int currentLoadCount;
+    private int nextId;
+    private boolean dirty;
+
+    @Override
+    public BlockEntity get(final int index) {
+        return this.entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public BlockEntity set(final int index, final BlockEntity element) {
+        final BlockEntity previous = this.entries.set(index, element);
+        this.unschedule(previous);
+        this.unscheduled.add(element);
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final BlockEntity element) {
+        this.entries.add(index, element);
+        this.unscheduled.add(element);
+    }
+
+    @Override
+    public BlockEntity remove(final int index) {
+        final BlockEntity removed = this.entries.remove(index);
+        this.unschedule(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        if (this.entries.remove(o)) {
+            this.unschedule((BlockEntity) o);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        if (!this.entries.removeAll(c)) {
+            return false;
+        }
+        for (final Object o : c) {
+            if (o instanceof BlockEntity) {
+                this.unschedule((BlockEntity) o);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        this.entries.clear();
+        this.everyTick.clear();
+        this.wheels.clear();
+        this.buckets.clear();
+        this.unscheduled.clear();
+    }
+
+    /**
+     * Gets an iterator over the block entities that are due in the given
+     * tick. Removing through the iterator removes the block entity from this
+     * list.
+     *
+     * @param tick The current server tick
+     * @param config The config of the world
+     * @return The iterator
+     */
+    public Iterator<BlockEntity> iterator(final int tick, final InheritableConfigHandle<WorldConfig> config) {
+        this.validate(config);
+        this.due.clear();
+        this.due.addAll(this.everyTick);
+        for (final Int2ObjectMap.Entry<Set<BlockEntity>[]> entry : this.wheels.int2ObjectEntrySet()) {
+            this.due.addAll(entry.getValue()[tick % entry.getIntKey()]);
+        }
+        for (final BlockEntity blockEntity : this.unscheduled) {
+            this.due.add(blockEntity);
+            this.schedule(blockEntity, config);
+        }
+        this.unscheduled.clear();
+        return new DueIterator();
+    }
+
+    /**
+     * Saves the config of the world if tick rates were added to it since
+     * the last save.
+     */
+    public void saveIfDirty() {
+        if (this.dirty && this.currentConfig != null) {
+            this.dirty = false;
+            this.currentConfig.save();
+        }
+    }
+
+    private void validate(final InheritableConfigHandle<WorldConfig> config) {
+        final int loadCount = config.getLoadCount();
+        if (config == this.currentConfig && loadCount == this.currentLoadCount) {
+            return;
+        }
+        this.currentConfig = config;
+        this.currentLoadCount = loadCount;
+        this.tickRates.clear();
+        this.everyTick.clear();
+        this.wheels.clear();
+        this.buckets.clear();
+        this.unscheduled.clear();
+        for (final BlockEntity blockEntity : this.entries) {
+            this.schedule(blockEntity, config);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void schedule(final BlockEntity blockEntity, final InheritableConfigHandle<WorldConfig> config) {
+        final int tickRate = this.tickRates.computeIfAbsent(blockEntity.getType(), type -> this.resolveTickRate(config, type));
+        if (blockEntity instanceof ActivationCapabilityBridge) {
+            ((ActivationCapabilityBridge) blockEntity).activation$setSpongeTickRate(tickRate);
+        }
+        final Set<BlockEntity> bucket;
+        if (tickRate <= 1) {
+            bucket = this.everyTick;
+        } else {
+            final Set<BlockEntity>[] wheel = this.wheels.computeIfAbsent(tickRate, rate -> {
+                final Set<BlockEntity>[] sets = new Set[rate];
+                for (int i = 0; i < rate; i++) {
+                    sets[i] = new ReferenceLinkedOpenHashSet<>();
+                }
+                return sets;
+            });
+            // Spread the block entities of the same rate evenly over the ticks
+            bucket = wheel[(this.nextId++ & Integer.MAX_VALUE) % tickRate];
+        }
+        bucket.add(blockEntity);
+        this.buckets.put(blockEntity, bucket);
+    }
+
+    private void unschedule(final BlockEntity blockEntity) {
+        final Set<BlockEntity> bucket = this.buckets.remove(blockEntity);
+        if (bucket != null) {
+            bucket.remove(blockEntity);
+        } else {
+            this.unscheduled.remove(blockEntity);
+        }
+    }
+
+    private int resolveTickRate(final InheritableConfigHandle<WorldConfig> config, final BlockEntityType<?> type) {
+        final ResourceLocation key = BlockEntityType.getKey(type);
+        if (key == null) {
+            return 1;
+        }
+        final BlockEntityActivationCategory category = config.get().blockEntityActivation;
+        final BlockEntityActivationCategory.MobSubCategory modCategory = config.getOrCreateValue(s -> s.blockEntityActivation.mods.get(key.getNamespace()),
+                c -> c.blockEntityActivation.mods.put(key.getNamespace(), new BlockEntityActivationCategory.MobSubCategory()),
+                category.autoPopulate);
+        int tickRate = category.defaultTickRate;
+        if (modCategory == null) {
+            return Math.max(1, tickRate);
+        }
+        if (!modCategory.enabled) {
+            return 1;
+        }
+        if (modCategory.defaultTickRate != null) {
+            tickRate = modCategory.defaultTickRate;
+        }
+        final Integer override = modCategory.tickRates.get(key.getPath());
+        if (override != null) {
+            tickRate = override;
+        } else if (category.autoPopulate) {
+            modCategory.tickRates.put(key.getPath(), tickRate);
+            this.dirty = true;
+        }
+        return Math.max(1, tickRate);
+    }
+
+    private final class DueIterator implements Iterator<BlockEntity> {
+
+        private int cursor;
+        private @Nullable BlockEntity last;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < BlockEntityTickWheel.this.due.size();
+        }
+
+        @Override
+        public BlockEntity next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = BlockEntityTickWheel.this.due.get(this.cursor++);
+            return this.last;
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+            BlockEntityTickWheel.this.remove(this.last);
+            this.last = null;
+        }
+    }
+}
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.bridge.network;
 
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.common.entity.player.ClientType;
@@ -31,6 +34,7 @@
 
 import java.net.InetSocketAddress;
 import java.util.Set;
+import net.minecraft.network.protocol.Packet;
 
 public interface NetworkManagerBridge {
 
@@ -51,4 +55,23 @@ public interface NetworkManagerBridge {
     ClientType bridge$getClientType();
 
     void bridge$setClientType(ClientType clientType);
+
+    /**
+     * Writes the packet to the channel without flushing it, unless more than
+     * the given amount of bytes is pending. The packet is only written if the
+     * connection is established.
+     *
+     * @param packet The packet
+     * @param listener The listener to call once sent
+     * @param size The approximate size of the packet, in bytes
+     * @param maxBytes The amount of pending bytes after which the channel is flushed
+     * @return Whether the packet was written
+     */
+    boolean bridge$writeWithoutFlush(Packet<?> packet, @Nullable GenericFutureListener<? extends Future<? super Void>> listener,
+            int size, int maxBytes);
+
+    /**
+     * Flushes the packets written through {@link #bridge$writeWithoutFlush}, if any.
+     */
+    void bridge$flush();
 }
@@ -32,6 +32,7 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.weather.WeatherType;
+import org.spongepowered.common.entity.EntityCollisionTable;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
 import org.spongepowered.math.vector.Vector3d;
 
@@ -62,4 +63,6 @@ public interface ServerWorldBridge {
     RegistryHolder bridge$registries();
 
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
+
+    EntityCollisionTable bridge$getEntityCollisionTable();
 }
@@ -58,6 +58,15 @@ public interface TrackedWorldBridge {
 
     Optional<WorldPipeline.Builder> bridge$startBlockChange(BlockPos pos, BlockState state, int rawFlags);
 
+    /**
+     * Gets whether this world is currently applying a block change directly
+     * through vanilla, without building any transactions, because the world
+     * is configured for tracking-lite and nothing would observe the change.
+     *
+     * @return True if an untracked block change is in progress
+     */
+    boolean bridge$isApplyingUntrackedChange();
+
     /**
      * Delegates to the {@link ServerLevel} to perform the lookup for a {@link LevelChunk}
      * such that if the target {@link BlockPos} results in a {@code false} for
@@ -34,6 +34,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.ProtoChunk;
@@ -59,10 +60,38 @@ public interface ChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
+    /**
+     * Removes the creator and notifier of the given position, once the block
+     * there is broken or replaced by another block.
+     *
+     * @param pos The block position
+     */
+    void bridge$removeTrackedBlockPosition(BlockPos pos);
+
     void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
 
     void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
 
+    /**
+     * Sets the tracked block positions read from the chunk data. They are
+     * only decoded once they're first queried.
+     *
+     * @param compound The sponge data compound of the chunk
+     */
+    void bridge$readTrackedPositions(CompoundTag compound);
+
+    void bridge$writeTrackedPositions(CompoundTag compound);
+
+    int bridge$getTrackedPositionCount();
+
+    /**
+     * Gets the approximate amount of memory used by the tracked block
+     * positions of this chunk, in bytes.
+     *
+     * @return The estimated size
+     */
+    long bridge$getTrackedPositionsSize();
+
     void bridge$setNeighbor(Direction direction, LevelChunk neighbor);
 
     void bridge$setNeighborChunk(int index, @Nullable LevelChunk chunk);
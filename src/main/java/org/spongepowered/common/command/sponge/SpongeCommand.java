@@ -32,9 +32,14 @@
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.Command;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.manager.CommandMapping;
@@ -45,27 +50,44 @@
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.block.BlockStateDataTable;
 import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.data.value.ValueConstructorFactory;
+import org.spongepowered.common.event.ListenerStatistics;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.network.channel.SpongeChannel;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.scheduler.AsyncScheduler;
+import org.spongepowered.common.scheduler.SchedulerMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DecimalFormat;
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.management.MBeanServer;
@@ -91,9 +113,33 @@ public Command.Parameterized createSpongeCommand() {
                 .setExecutor(this::auditSubcommandExecutor)
                 .build();
 
+        // /sponge channels
+        final Command.Parameterized channelsCommand = Command.builder()
+                .setPermission("sponge.command.channels")
+                .setShortDescription(Component.text("Displays the payload buffers and transactions of each network channel."))
+                .setExecutor(this::channelsExecutor)
+                .build();
+
         // /sponge chunks
         final Command.Parameterized chunksCommand = this.chunksSubcommand();
 
+        // /sponge data
+        final Command.Parameterized dataCommand = Command.builder()
+                .setPermission("sponge.command.data")
+                .setShortDescription(Component.text("Displays the memory used by the cached data of block states and the hit rate of cached values."))
+                .setExecutor(this::dataExecutor)
+                .child(Command.builder()
+                        .setExecutor(context -> {
+                            ValueConstructorFactory.resetCacheCounters();
+                            context.sendMessage(Identity.nil(), Component.text("Value cache counters have been reset."));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .build();
+
+        // /sponge events
+        final Command.Parameterized eventsCommand = this.eventsSubcommand();
+
         // /sponge heap
         final Command.Parameterized heapCommand = Command.builder()
                 .setPermission("sponge.command.heap")
@@ -130,9 +176,30 @@ public Command.Parameterized createSpongeCommand() {
                 .child(pluginsInfoCommand, "info")
                 .build();
 
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .setPermission("sponge.command.scheduler")
+                .setShortDescription(Component.text("Displays thread usage, queue depth and lateness of scheduled tasks per plugin."))
+                .setExecutor(this::schedulerExecutor)
+                .build();
+
         // /sponge timings
         final Command.Parameterized timingsCommand = this.timingsSubcommand();
 
+        // /sponge tracker
+        final Command.Parameterized trackerCommand = Command.builder()
+                .setPermission("sponge.command.tracker")
+                .setShortDescription(Component.text("Displays how many phase contexts were reused from pools or freshly allocated."))
+                .setExecutor(this::trackerExecutor)
+                .child(Command.builder()
+                        .setExecutor(context -> {
+                            PhaseTracker.SERVER.resetContextCounters();
+                            context.sendMessage(Identity.nil(), Component.text("Phase context counters have been reset."));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .build();
+
         // /sponge tps
         final Command.Parameterized tpsCommand = Command.builder()
                 .setPermission("sponge.command.tps")
@@ -160,11 +227,16 @@ public Command.Parameterized createSpongeCommand() {
                 .setPermission("sponge.command.root")
                 .setExecutor(this::rootCommand)
                 .child(auditCommand, "audit")
+                .child(channelsCommand, "channels")
                 .child(chunksCommand, "chunks")
+                .child(dataCommand, "data")
+                .child(eventsCommand, "events")
                 .child(heapCommand, "heap")
                 .child(pluginsCommand, "plugins")
+                .child(schedulerCommand, "scheduler")
                 .child(timingsCommand, "timings")
                 .child(tpsCommand, "tps")
+                .child(trackerCommand, "tracker")
                 .child(versionCommand, "version")
                 .child(whichCommand, "which");
 
@@ -263,6 +335,105 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.Parameterized eventsSubcommand() {
+        final Command.Parameterized resetCommand = Command.builder()
+                .setShortDescription(Component.text("Resets the listener execution counters"))
+                .setExecutor(context -> {
+                    for (final RegisteredListener<?> listener : this.getEventManager().getRegisteredListeners()) {
+                        listener.getStatistics().reset();
+                    }
+                    context.sendMessage(Identity.nil(), Component.text("Listener counters reset"));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized exportCommand = Command.builder()
+                .setShortDescription(Component.text("Writes the listener execution counters to a file"))
+                .setExecutor(context -> {
+                    final File file = new File(new File(new File("."), "event-reports"),
+                            "listeners-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".csv");
+                    context.sendMessage(Identity.nil(), Component.text("Writing listener report to: " + file.getAbsolutePath()));
+                    try {
+                        this.writeListenerReport(file);
+                    } catch (final IOException e) {
+                        SpongeCommon.getLogger().error("Could not write listener report to {}", file, e);
+                        context.sendMessage(Identity.nil(), Component.text("Could not write the listener report, see the console", NamedTextColor.RED));
+                        return CommandResult.empty();
+                    }
+                    context.sendMessage(Identity.nil(), Component.text("Listener report complete"));
+                    return CommandResult.success();
+                })
+                .build();
+        return Command.builder()
+                .setPermission("sponge.command.events")
+                .setShortDescription(Component.text("Displays the listeners that spent the most time handling events"))
+                .setExecutor(this::eventsExecutor)
+                .child(resetCommand, "reset")
+                .child(exportCommand, "export")
+                .build();
+    }
+
+    @NonNull
+    private CommandResult eventsExecutor(final CommandContext context) {
+        final List<RegisteredListener<?>> listeners = this.getSortedListeners();
+        context.sendMessage(Identity.nil(), this.title("Slowest listeners (by total time)"));
+        final int count = Math.min(listeners.size(), 10);
+        for (int i = 0; i < count; i++) {
+            final RegisteredListener<?> listener = listeners.get(i);
+            final ListenerStatistics statistics = listener.getStatistics();
+            if (statistics.getInvocations() == 0) {
+                break;
+            }
+            context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                    this.hl(listener.getPlugin().getMetadata().getId()), Component.text(" "),
+                    Component.text(listener.getName()), Component.text(" ("),
+                    Component.text(listener.getEventType().getType().getSimpleName()), Component.text("): "),
+                    this.key("Calls: "), this.value(String.valueOf(statistics.getInvocations())),
+                    this.key(" Total: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getTotalNanos() * 1.0E-6D) + "ms"),
+                    this.key(" Avg: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getAverageNanos() * 1.0E-6D) + "ms"),
+                    this.key(" Max: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getMaxNanos() * 1.0E-6D) + "ms"),
+                    this.key(" Errors: "), this.value(String.valueOf(statistics.getExceptions()))
+            ).build());
+        }
+        return CommandResult.success();
+    }
+
+    private void writeListenerReport(final File file) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        final List<String> lines = new ArrayList<>();
+        lines.add("plugin,listener,event,order,invocations,total_ns,average_ns,max_ns,exceptions");
+        for (final RegisteredListener<?> listener : this.getSortedListeners()) {
+            final ListenerStatistics statistics = listener.getStatistics();
+            lines.add(String.join(",",
+                    listener.getPlugin().getMetadata().getId(),
+                    listener.getHandle().getClass().getName() + (listener.getMethodName() == null ? "" : "#" + listener.getMethodName()),
+                    listener.getEventType().toString().replace(',', ';'),
+                    listener.getOrder().name(),
+                    String.valueOf(statistics.getInvocations()),
+                    String.valueOf(statistics.getTotalNanos()),
+                    String.valueOf(statistics.getAverageNanos()),
+                    String.valueOf(statistics.getMaxNanos()),
+                    String.valueOf(statistics.getExceptions())));
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    private List<RegisteredListener<?>> getSortedListeners() {
+        final List<RegisteredListener<?>> listeners = this.getEventManager().getRegisteredListeners();
+        // Sort a snapshot of the totals, they keep changing while listeners run on other threads
+        final Map<RegisteredListener<?>, Long> totals = new IdentityHashMap<>(listeners.size());
+        for (final RegisteredListener<?> listener : listeners) {
+            totals.put(listener, listener.getStatistics().getTotalNanos());
+        }
+        listeners.sort(Comparator.comparingLong((RegisteredListener<?> listener) -> totals.get(listener)).reversed());
+        return listeners;
+    }
+
+    private SpongeEventManager getEventManager() {
+        return (SpongeEventManager) SpongeCommon.getGame().getEventManager();
+    }
+
     @NonNull
     private CommandResult heapSubcommandExecutor(final CommandContext context) {
         final File file = new File(new File(new File("."), "dumps"),
@@ -330,6 +501,119 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
         return CommandResult.success();
     }
 
+    @NonNull
+    private CommandResult schedulerExecutor(final CommandContext context) {
+        context.sendMessage(Identity.nil(), this.title("Server Scheduler"));
+        context.sendMessage(Identity.nil(), this.getSchedulerInfo(SpongeCommon.getServerScheduler()));
+        final AsyncScheduler asyncScheduler = SpongeCommon.getAsyncScheduler();
+        context.sendMessage(Identity.nil(), this.title("Async Scheduler"));
+        context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                this.key("Threads: "), this.value(String.valueOf(asyncScheduler.getPoolSize())),
+                this.key(" Active: "), this.value(String.valueOf(asyncScheduler.getActiveThreadCount())),
+                this.key(" Waiting for quota: "), this.value(String.valueOf(asyncScheduler.getQuotaWaitingCount())),
+                this.key(" Rejected: "), this.value(String.valueOf(asyncScheduler.getRejectedCount()))).build());
+        context.sendMessage(Identity.nil(), this.getSchedulerInfo(asyncScheduler));
+        return CommandResult.success();
+    }
+
+    @NonNull
+    private CommandResult channelsExecutor(final CommandContext context) {
+        context.sendMessage(Identity.nil(), this.title("Channels"));
+        final List<SpongeChannel> channels = Sponge.getChannelRegistry().getChannels().stream()
+                .filter(channel -> channel instanceof SpongeChannel)
+                .map(channel -> (SpongeChannel) channel)
+                .sorted(Comparator.comparing(channel -> channel.getKey().getFormatted()))
+                .collect(Collectors.toList());
+        for (final SpongeChannel channel : channels) {
+            context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                    this.key(channel.getKey().getFormatted() + ": "),
+                    this.key("Allocated: "), this.value(String.valueOf(channel.getAllocatedPayloadCount())),
+                    this.key(" Released: "), this.value(String.valueOf(channel.getReleasedPayloadCount())),
+                    this.key(" Outstanding: "), this.value(String.valueOf(channel.getOutstandingPayloadCount()))).build());
+            final long pending = channel.getPendingTransactionCount();
+            final long completed = channel.getCompletedTransactionCount();
+            final long timedOut = channel.getTimedOutTransactionCount();
+            if (pending != 0 || completed != 0 || timedOut != 0) {
+                context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT, SpongeCommand.INDENT_COMPONENT,
+                        this.key("Pending: "), this.value(String.valueOf(pending)),
+                        this.key(" Completed: "), this.value(String.valueOf(completed)),
+                        this.key(" Timed Out: "), this.value(String.valueOf(timedOut)),
+                        this.key(" Round Trip: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                                channel.getAverageTransactionTime()) + "ms")).build());
+            }
+        }
+        return CommandResult.success();
+    }
+
+    @NonNull
+    private CommandResult dataExecutor(final CommandContext context) {
+        final long tables = BlockStateDataTable.getTableCount();
+        final long entries = BlockStateDataTable.getEntryCount();
+        context.sendMessage(Identity.nil(), this.title("Block State Data"));
+        context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                this.key("Tables: "), this.value(String.valueOf(tables)),
+                this.key(" Entries: "), this.value(String.valueOf(entries)),
+                this.key(" Avg entries: "), this.value(tables == 0 ? "-" : SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(entries / (double) tables)),
+                this.key(" Memory: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                        BlockStateDataTable.getTableSize() / 1024.0D) + " KiB")).build());
+        final long hits = ValueConstructorFactory.getCacheHits();
+        final long total = hits + ValueConstructorFactory.getCacheMisses();
+        context.sendMessage(Identity.nil(), this.title("Immutable Values"));
+        context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                this.key("Cached: "), this.value(String.valueOf(hits)),
+                this.key(" Created: "), this.value(String.valueOf(total - hits)),
+                this.key(" Hit rate: "), this.value(total == 0 ? "-" : SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(hits * 100.0D / total) + "%"))
+                .build());
+        return CommandResult.success();
+    }
+
+    @NonNull
+    private CommandResult trackerExecutor(final CommandContext context) {
+        final PhaseTracker tracker = PhaseTracker.SERVER;
+        final long pooled = tracker.getPooledContextCount();
+        final long fresh = tracker.getFreshContextCount();
+        final long total = pooled + fresh;
+        context.sendMessage(Identity.nil(), this.title("Phase Contexts"));
+        context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT,
+                this.key("Pooled: "), this.value(String.valueOf(pooled)),
+                this.key(" Fresh: "), this.value(String.valueOf(fresh)),
+                this.key(" Reuse: "), this.value(total == 0 ? "-" : SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(pooled * 100.0D / total) + "%"),
+                this.key(" Idle: "), this.value(String.valueOf(tracker.getIdleContextCount()))).build());
+        return CommandResult.success();
+    }
+
+    private Component getSchedulerInfo(final SpongeScheduler scheduler) {
+        final Map<String, SchedulerMetrics.PluginMetrics> metrics = scheduler.getMetrics().getPluginMetrics();
+        if (metrics.isEmpty()) {
+            return Component.text().append(SpongeCommand.INDENT_COMPONENT, Component.text("No tasks have been scheduled")).build();
+        }
+        final TextComponent.Builder builder = Component.text();
+        boolean first = true;
+        for (final Map.Entry<String, SchedulerMetrics.PluginMetrics> entry : new TreeMap<>(metrics).entrySet()) {
+            final SchedulerMetrics.PluginMetrics pluginMetrics = entry.getValue();
+            if (!first) {
+                builder.append(Component.newline());
+            }
+            first = false;
+            builder.append(SpongeCommand.INDENT_COMPONENT, this.hl(entry.getKey()), Component.text(": "),
+                    this.key("Queued: "), this.value(String.valueOf(pluginMetrics.getQueueDepth())),
+                    this.key(" Runs: "), this.value(String.valueOf(pluginMetrics.getExecutions())),
+                    this.key(" Avg late: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                            pluginMetrics.getAverageLatenessNanos() * 1.0E-6D) + "ms"),
+                    this.key(" Max late: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                            pluginMetrics.getMaxLatenessNanos() * 1.0E-6D) + "ms"));
+            if (pluginMetrics.getDeferrals() > 0) {
+                builder.append(this.key(" Deferred: "), this.value(String.valueOf(pluginMetrics.getDeferrals())));
+            }
+            if (scheduler instanceof AsyncScheduler) {
+                builder.append(this.key(" Waiting for quota: "),
+                        this.value(String.valueOf(((AsyncScheduler) scheduler).getQuotaWaitingCount(entry.getKey()))),
+                        this.key(" Rejected: "), this.value(String.valueOf(pluginMetrics.getRejections())));
+            }
+        }
+        return builder.build();
+    }
+
     private Command.@NonNull Parameterized timingsSubcommand() {
         return Command.builder()
                 .setPermission("sponge.command.timings")
@@ -507,15 +791,30 @@ protected Component getChunksInfo(final ServerWorld worldserver) {
         if (((WorldBridge) worldserver).bridge$isFake() || worldserver.getWorldStorage().getWorldProperties() == null) {
             return Component.text().append(Component.newline(), Component.text("Fake world")).build();
         }
-        return Component.text().append(Component.newline(), Component.text("chunk stuff here")).build();
-        /*
-                key("DimensionId: "), value(((WorldServerBridge) worldserver).bridge$getDimensionId()), TextComponent.newline(),
-                key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), TextComponent.newline(),
-                key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), TextComponent.newline(),
-                key("Entities: "), value(worldserver.loadedEntityList.size()), TextComponent.newline(),
-                key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), TextComponent.newline(),
-                key("Removed Entities:"), value(((WorldAccessor) worldserver).accessor$getUnloadedEntityList().size()), TextComponent.newline(),
-                key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), TextComponent.newline()*/
+        int loadedChunks = 0;
+        int trackedChunks = 0;
+        long trackedPositions = 0;
+        long trackedSize = 0;
+        final ServerLevel level = (ServerLevel) worldserver;
+        for (final ChunkHolder holder : ((ChunkMapAccessor) level.getChunkSource().chunkMap).invoker$getChunks()) {
+            final ChunkAccess chunk = holder.getLastAvailable();
+            if (!(chunk instanceof LevelChunk)) {
+                continue;
+            }
+            loadedChunks++;
+            final int positions = ((ChunkBridge) chunk).bridge$getTrackedPositionCount();
+            if (positions != 0) {
+                trackedChunks++;
+                trackedPositions += positions;
+                trackedSize += ((ChunkBridge) chunk).bridge$getTrackedPositionsSize();
+            }
+        }
+        return Component.text().append(Component.newline(),
+                this.key("Loaded chunks: "), this.value(String.valueOf(loadedChunks)), Component.newline(),
+                this.key("Chunks with tracked blocks: "), this.value(String.valueOf(trackedChunks)), Component.newline(),
+                this.key("Tracked block positions: "), this.value(String.valueOf(trackedPositions)), Component.newline(),
+                this.key("Tracked block memory: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(trackedSize / 1024.0D) + " KiB"))
+                .build();
     }
 
     protected Component key(final String text) {
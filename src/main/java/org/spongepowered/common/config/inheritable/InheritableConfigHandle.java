@@ -46,6 +46,12 @@
      */
     private CommentedConfigurationNode mergedNode;
 
+    /**
+     * The number of times this configuration was loaded, used to invalidate
+     * the data derived from it.
+     */
+    private volatile int loadCount;
+
     public InheritableConfigHandle(final T instance, final @Nullable InheritableConfigHandle<?> parent) {
         super(instance);
         this.parent = parent;
@@ -99,9 +105,14 @@ public void load() throws ConfigurateException {
 
         // populate the config object
         this.mapper.load(this.instance, this.mergedNode);
+        this.loadCount++;
         this.doSave();
     }
 
+    public int getLoadCount() {
+        return this.loadCount;
+    }
+
     public void doSave() throws ConfigurateException {
         if (!this.isAttached()) {
             return;
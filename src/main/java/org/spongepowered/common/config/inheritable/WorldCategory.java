@@ -50,4 +50,13 @@ public final class WorldCategory {
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
+
+    @Setting("tracking-lite")
+    @Comment("If 'true', block changes in this world bypass Sponge's transaction capturing \n"
+        + "and are applied directly through vanilla whenever no plugin is listening to \n"
+        + "ChangeBlockEvent. Tracking resumes automatically as soon as such a listener \n"
+        + "is registered. \n"
+        + "Note: Block changes made while in this mode cannot be attributed to a creator \n"
+        + "or notifier, and are not restored by event cancellations.")
+    public boolean trackingLite = false;
 }
@@ -29,6 +29,7 @@
 import org.spongepowered.api.data.persistence.DataView;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The default implementation of {@link DataContainer} that can be instantiated
@@ -58,6 +59,18 @@ public MemoryDataContainer(final DataView.SafetyMode safety) {
         super(safety);
     }
 
+    /**
+     * Creates a new {@link MemoryDataContainer} with the provided
+     * {@link org.spongepowered.api.data.persistence.DataView.SafetyMode}
+     * whose contents are filled in by the given loader on first access.
+     *
+     * @param safety The safety mode to use
+     * @param loader The loader filling in the container
+     */
+    public MemoryDataContainer(final DataView.SafetyMode safety, final Consumer<? super DataView> loader) {
+        super(safety, loader);
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
@@ -57,6 +57,8 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -68,11 +70,21 @@
  */
 public class MemoryDataView implements DataView {
 
+    // Single part queries for keys seen so far, so listing or walking views
+    // doesn't build a new query per key every time. Bounded to avoid growing
+    // forever on generated keys.
+    private static final int MAX_INTERNED_KEYS = 4096;
+    private static final Map<String, DataQuery> KEY_QUERIES = new ConcurrentHashMap<>();
+
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
+    // Fills in the map on first access for views that are read through from another
+    // source, such as a CompoundTag. Cleared once loaded.
+    @Nullable private volatile Consumer<? super DataView> loader;
+    private boolean loading;
 
     MemoryDataView(final DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
@@ -90,6 +102,68 @@ private MemoryDataView(final DataView parent, final DataQuery path, final DataVi
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
+    MemoryDataView(final DataView.SafetyMode safety, final Consumer<? super DataView> loader) {
+        this(safety);
+        this.loader = Objects.requireNonNull(loader, "loader");
+    }
+
+    private MemoryDataView(final DataView parent, final DataQuery path, final DataView.SafetyMode safety,
+            final Consumer<? super DataView> loader) {
+        this(parent, path, safety);
+        this.loader = loader;
+    }
+
+    static DataQuery keyQuery(final String key) {
+        final DataQuery query = MemoryDataView.KEY_QUERIES.get(key);
+        if (query != null) {
+            return query;
+        }
+        final DataQuery created = DataQuery.of(key);
+        if (MemoryDataView.KEY_QUERIES.size() < MemoryDataView.MAX_INTERNED_KEYS) {
+            MemoryDataView.KEY_QUERIES.putIfAbsent(key, created);
+        }
+        return created;
+    }
+
+    /**
+     * Gets whether the value is stored as is, without any copying or
+     * translation, regardless of the safety mode.
+     */
+    private static boolean isPlainValue(final Object value) {
+        final Class<?> type = value.getClass();
+        return type == String.class || type == Integer.class || type == Boolean.class || type == Double.class
+                || type == Long.class || type == Float.class || type == Short.class || type == Byte.class
+                || type == Character.class;
+    }
+
+    /**
+     * Runs the pending loader, if any, before the map is accessed. Setting
+     * values from within the loader doesn't trigger it again.
+     */
+    private void load() {
+        if (this.loader == null) {
+            return;
+        }
+        synchronized (this) {
+            final @Nullable Consumer<? super DataView> loader = this.loader;
+            if (loader == null || this.loading) {
+                return;
+            }
+            this.loading = true;
+            try {
+                loader.accept(this);
+                this.loader = null;
+            } catch (final RuntimeException | Error e) {
+                // Nothing but the loader fills the map of an unloaded view, so
+                // dropping the partial contents lets the next access retry
+                this.map.clear();
+                throw e;
+            } finally {
+                this.loading = false;
+            }
+        }
+    }
+
     @Override
     public DataContainer getContainer() {
         return this.container;
@@ -113,16 +187,17 @@ public Optional<DataView> getParent() {
 
     @Override
     public Set<DataQuery> getKeys(final boolean deep) {
+        this.load();
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
         for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(DataQuery.of(entry.getKey()));
+            builder.add(MemoryDataView.keyQuery(entry.getKey()));
         }
         if (deep) {
             for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (final DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(DataQuery.of(entry.getKey()).then(query));
+                        builder.add(MemoryDataView.keyQuery(entry.getKey()).then(query));
                     }
                 }
             }
@@ -151,6 +226,7 @@ public final boolean contains(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (queryParts.size() == 1) {
+            this.load();
             return this.map.containsKey(key);
         }
         final Optional<DataView> subViewOptional = this.getUnsafeView(key);
@@ -190,6 +266,7 @@ public Optional<Object> get(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (sz == 1) {
+            this.load();
             final Object object = this.map.get(key);
             if (object == null) {
                 return Optional.empty();
@@ -233,20 +310,12 @@ public DataView set(final DataQuery path, final Object value) {
         Objects.requireNonNull(value, "value");
         checkState(this.container != null);
         checkState(!path.getParts().isEmpty(), "The path is empty");
-
-        @Nullable DataManager manager;
-
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (final Exception e) {
-            manager = null;
-        }
+        this.load();
 
         final List<String> parts = path.getParts();
         final String key = parts.get(0);
         if (parts.size() > 1) {
-            final DataQuery subQuery = DataQuery.of(key);
+            final DataQuery subQuery = MemoryDataView.keyQuery(key);
             final Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
             final DataView subView;
             if (!subViewOptional.isPresent()) {
@@ -258,6 +327,26 @@ public DataView set(final DataQuery path, final Object value) {
             subView.set(path.popFirst(), value);
             return this;
         }
+        // Most values are primitives or strings, skip the registry and translator lookups for them
+        if (MemoryDataView.isPlainValue(value)) {
+            this.map.put(key, value);
+            return this;
+        }
+        // A view that wasn't loaded yet holds nothing but its loader, which only
+        // reads data nobody changes, so the copy can decode the same data lazily
+        final @Nullable Consumer<? super DataView> loader = value instanceof MemoryDataView ? ((MemoryDataView) value).loader : null;
+        if (loader != null) {
+            this.createLazyView(key, loader);
+            return this;
+        }
+
+        @Nullable DataManager manager;
+        try {
+            manager = Sponge.getDataManager();
+        } catch (final Exception e) {
+            manager = null;
+        }
+
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
@@ -405,7 +494,7 @@ private ImmutableList<Object> ensureSerialization(final Collection<?> collection
     }
 
     private void setMap(final String key, final Map<?, ?> value) {
-        final DataView view = this.createView(DataQuery.of(key));
+        final DataView view = this.createView(MemoryDataView.keyQuery(key));
         for (final Map.Entry<?, ?> entry : value.entrySet()) {
             view.set(DataQuery.of(entry.getKey().toString()), entry.getValue());
         }
@@ -421,10 +510,11 @@ private void copyDataView(final DataQuery path, final DataView value) {
     @Override
     public DataView remove(final DataQuery path) {
         Objects.requireNonNull(path, "path");
+        this.load();
         final List<String> parts = path.getParts();
         if (parts.size() > 1) {
             final String subKey = parts.get(0);
-            final DataQuery subQuery = DataQuery.of(subKey);
+            final DataQuery subQuery = MemoryDataView.keyQuery(subKey);
             final Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
             if (!subViewOptional.isPresent()) {
                 return this;
@@ -445,9 +535,10 @@ public DataView createView(final DataQuery path) {
         final int sz = queryParts.size();
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
+        this.load();
 
         final String key = queryParts.get(0);
-        final DataQuery keyQuery = DataQuery.of(key);
+        final DataQuery keyQuery = MemoryDataView.keyQuery(key);
 
         if (sz == 1) {
             final DataView result = new MemoryDataView(this, keyQuery, this.safety);
@@ -463,6 +554,27 @@ public DataView createView(final DataQuery path) {
         return subView.createView(subQuery);
     }
 
+    /**
+     * Creates a direct child view whose contents are filled in by the given
+     * loader once they are first accessed, replacing any existing value.
+     *
+     * <p>The loader may run more than once, for every copy of the view that
+     * is made before the view is loaded, so it must only read data that is
+     * never changed afterwards.</p>
+     *
+     * @param key The key of the child view
+     * @param loader The loader filling in the child view
+     * @return The lazily loaded child view
+     */
+    public DataView createLazyView(final String key, final Consumer<? super DataView> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        this.load();
+        final DataView result = new MemoryDataView(this, MemoryDataView.keyQuery(key), this.safety, loader);
+        this.map.put(key, result);
+        return result;
+    }
+
     @Override
     public DataView createView(final DataQuery path, final Map<?, ?> map) {
         Objects.requireNonNull(path, "path");
@@ -530,6 +642,7 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(final String path) {
+        this.load();
         final Object object = this.map.get(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
@@ -843,6 +956,7 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
+        this.load();
         return this.map.isEmpty();
     }
 
@@ -853,6 +967,7 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode getSafetyMode(
 
     @Override
     public int hashCode() {
+        this.load();
         return Objects.hash(this.map, this.path);
     }
 
@@ -865,6 +980,8 @@ public boolean equals(@Nullable final Object obj) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        this.load();
+        other.load();
 
         return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
             && com.google.common.base.Objects.equal(this.path, other.path);
@@ -877,6 +994,7 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
+        this.load();
         return helper.add("map", this.map).toString();
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.holder;
+
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+
+import java.util.Arrays;
+
+/**
+ * A reusable container of raw elements by {@link Key}, used to move data
+ * in and out of {@link SpongeDataHolder}s in a single pass without wrapping
+ * every element in a {@link Value}. A bag can be {@link #clear() cleared} and
+ * filled again, its backing arrays are kept around.
+ */
+public final class DataBag {
+
+    private static final ThreadLocal<DataBag> CACHED = ThreadLocal.withInitial(DataBag::new);
+
+    private Key<?>[] keys;
+    private Object[] elements;
+    private int size;
+    private boolean acquired;
+
+    /**
+     * Acquires the bag of the current thread, which has to be
+     * {@link #release() released} once it isn't used anymore. A new bag is
+     * returned if the bag of the thread is still acquired, such as when a
+     * data holder reads another one while its own data is being read.
+     *
+     * @return An empty bag
+     */
+    public static DataBag acquire() {
+        final DataBag bag = DataBag.CACHED.get();
+        if (bag.acquired) {
+            return new DataBag();
+        }
+        bag.acquired = true;
+        return bag;
+    }
+
+    public DataBag() {
+        this(16);
+    }
+
+    public DataBag(final int expectedSize) {
+        this.keys = new Key<?>[Math.max(expectedSize, 1)];
+        this.elements = new Object[this.keys.length];
+    }
+
+    /**
+     * Adds the element for the given {@link Key}, keys are not deduplicated.
+     *
+     * @param key The key
+     * @param element The element
+     */
+    public void put(final Key<?> key, final Object element) {
+        if (this.size == this.keys.length) {
+            final int newLength = this.size << 1;
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.elements = Arrays.copyOf(this.elements, newLength);
+        }
+        this.keys[this.size] = key;
+        this.elements[this.size] = element;
+        this.size++;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public Key<?> getKey(final int index) {
+        this.checkIndex(index);
+        return this.keys[index];
+    }
+
+    public Object getElement(final int index) {
+        this.checkIndex(index);
+        return this.elements[index];
+    }
+
+    /**
+     * Removes all the entries, keeping the backing arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0, this.size, null);
+        Arrays.fill(this.elements, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Clears this bag and hands it back to its thread, if it was
+     * {@link #acquire() acquired}.
+     */
+    public void release() {
+        this.clear();
+        this.acquired = false;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
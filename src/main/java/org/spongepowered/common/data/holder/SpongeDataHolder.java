@@ -85,11 +85,55 @@ default <E, V extends Value<E>> Optional<V> getValue(Key<V> key) {
     }
 
     default Map<Key<?>, Object> getMappedValues() {
-        final Map<Key<?>, Object> map = new HashMap<>();
+        final DataBag bag = DataBag.acquire();
+        try {
+            this.readInto(bag);
+            final Map<Key<?>, Object> map = new HashMap<>(bag.size() * 2);
+            for (int i = 0; i < bag.size(); i++) {
+                map.put(bag.getKey(i), bag.getElement(i));
+            }
+            return map;
+        } finally {
+            bag.release();
+        }
+    }
+
+    /**
+     * Reads the raw elements of every supported {@link Key} into the given bag,
+     * without constructing any {@link Value}s.
+     *
+     * @param bag The bag to fill
+     * @return The bag, for chaining
+     */
+    default DataBag readInto(final DataBag bag) {
+        final DataHolder holder = this.delegateDataHolder();
         for (final DataProvider<?, ?> provider : this.getAllProviders()) {
-            provider.get(this.delegateDataHolder()).ifPresent(value -> map.put(provider.getKey(), value));
+            final Optional<?> element = provider.get(holder);
+            if (element.isPresent()) {
+                bag.put(provider.getKey(), element.get());
+            }
+        }
+        return bag;
+    }
+
+    /**
+     * Reads the raw elements of the given {@link Key}s into the given bag,
+     * keys that have no element on this holder are skipped.
+     *
+     * @param bag The bag to fill
+     * @param keys The keys to read
+     * @return The bag, for chaining
+     */
+    @SuppressWarnings(value = {"unchecked", "rawtypes"})
+    default DataBag readInto(final DataBag bag, final Iterable<? extends Key<?>> keys) {
+        final DataHolder holder = this.delegateDataHolder();
+        for (final Key<?> key : keys) {
+            final Optional<?> element = this.getProviderFor((Key) key).get(holder);
+            if (element.isPresent()) {
+                bag.put(key, element.get());
+            }
         }
-        return map;
+        return bag;
     }
 
     @Override
@@ -256,7 +256,17 @@ default DataTransactionResult copyFrom(ValueContainer that, MergeFunction functi
         requireNonNull(function, "function");
         final DataTransactionResult.Builder builder = DataTransactionResult.builder();
         boolean success = false;
-        if (function == MergeFunction.REPLACEMENT_PREFERRED) {
+        if (that instanceof SpongeDataHolder
+                && (function == MergeFunction.REPLACEMENT_PREFERRED || function == MergeFunction.ORIGINAL_PREFERRED)) {
+            // Neither function looks at the values themselves, so the raw elements
+            // can be copied over without wrapping each of them in a value first
+            final DataBag bag = DataBag.acquire();
+            try {
+                return this.offerAll(((SpongeDataHolder) that).readInto(bag), function == MergeFunction.ORIGINAL_PREFERRED);
+            } finally {
+                bag.release();
+            }
+        } else if (function == MergeFunction.REPLACEMENT_PREFERRED) {
             // Produce less garbage if we know we don't have to merge any values
             for (final Value<?> replacement : that.getValues()) {
                 final DataTransactionResult result = this.offer(replacement);
@@ -299,6 +309,42 @@ default DataTransactionResult copyFrom(ValueContainer that, MergeFunction functi
         return builder.build();
     }
 
+    /**
+     * Offers all the elements of the given bag to this holder.
+     *
+     * @param bag The bag to offer
+     * @return The combined transaction result
+     */
+    default DataTransactionResult offerAll(final DataBag bag) {
+        return this.offerAll(bag, false);
+    }
+
+    /**
+     * Offers all the elements of the given bag to this holder, optionally
+     * skipping the keys for which this holder already has an element.
+     *
+     * @param bag The bag to offer
+     * @param skipPresent Whether keys with an existing element should be skipped
+     * @return The combined transaction result
+     */
+    default DataTransactionResult offerAll(final DataBag bag, final boolean skipPresent) {
+        final DataHolder.Mutable holder = this.delegateDataHolder();
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        boolean success = false;
+        for (int i = 0; i < bag.size(); i++) {
+            final DataProvider<?, Object> provider = this.getProviderFor((Key) bag.getKey(i));
+            if (skipPresent && provider.get(holder).isPresent()) {
+                continue;
+            }
+            final DataTransactionResult result = provider.offer(holder, bag.getElement(i));
+            builder.absorbResult(result);
+            if (result.isSuccessful()) {
+                success = true;
+            }
+        }
+        return builder.result(success ? DataTransactionResult.Type.SUCCESS : DataTransactionResult.Type.FAILURE).build();
+    }
+
     @Override
     default DataTransactionResult undo(DataTransactionResult result) {
         if (result.getReplacedData().isEmpty() && result.getSuccessfulData().isEmpty()) {
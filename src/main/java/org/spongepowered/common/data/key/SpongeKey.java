@@ -40,11 +40,24 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger KEY_IDS = new AtomicInteger();
+
+    /**
+     * Gets the number of {@link SpongeKey}s that were constructed so far,
+     * every {@link #getId() id} is smaller than this count.
+     *
+     * @return The key count
+     */
+    public static int getKeyCount() {
+        return SpongeKey.KEY_IDS.get();
+    }
+
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -52,6 +65,7 @@
     private final ValueConstructor<V, E> valueConstructor;
     private final Supplier<E> defaultValueSupplier;
     private final EmptyDataProvider<V, E> emptyDataProvider;
+    private final int id;
 
     public SpongeKey(final ResourceKey key, final Type valueType, final Type elementType,
             final Comparator<? super E> elementComparator,
@@ -65,6 +79,17 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
         this.defaultValueSupplier = defaultValueSupplier;
         this.emptyDataProvider = new EmptyDataProvider<>(this);
         this.valueConstructor = ValueConstructorFactory.getConstructor(this);
+        this.id = SpongeKey.KEY_IDS.getAndIncrement();
+    }
+
+    /**
+     * Gets the dense id of this key, which is used to index
+     * the per holder type data provider tables.
+     *
+     * @return The id
+     */
+    public int getId() {
+        return this.id;
     }
 
     @Override
@@ -0,0 +1,504 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact binary {@link DataFormat}. Every key is written once to a shared
+ * dictionary at the start of the data and referenced by index afterwards,
+ * integers are written as variable length, and nested views are prefixed
+ * with their length so they can be skipped over.
+ *
+ * <p>Read data is translated lazily, a nested view is only decoded once it
+ * is first accessed. Large files can be read through {@link #readFrom(Path)},
+ * which maps the file into memory instead of copying it.</p>
+ */
+public final class BinaryDataFormat implements DataFormat {
+
+    private static final int MAGIC = 0x53504442; // SPDB
+    private static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_BYTE = 2;
+    private static final byte TAG_SHORT = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_DOUBLE = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_BYTE_ARRAY = 9;
+    private static final byte TAG_INT_ARRAY = 10;
+    private static final byte TAG_LONG_ARRAY = 11;
+    private static final byte TAG_LIST = 12;
+    private static final byte TAG_VIEW = 13;
+    private static final byte TAG_CHAR = 14;
+    private static final byte TAG_SHORT_ARRAY = 15;
+    private static final byte TAG_FLOAT_ARRAY = 16;
+    private static final byte TAG_DOUBLE_ARRAY = 17;
+    private static final byte TAG_BOOLEAN_ARRAY = 18;
+    private static final byte TAG_OBJECT_ARRAY = 19;
+
+    @Override
+    public DataContainer readFrom(final InputStream input) throws IOException {
+        final byte[] bytes;
+        try {
+            bytes = ByteStreams.toByteArray(input);
+        } finally {
+            input.close();
+        }
+        return BinaryDataFormat.read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the data in the given file. The file is mapped into memory and
+     * read in place, so it must not be modified while the returned container
+     * is in use.
+     *
+     * @param path The file to read
+     * @return The read container
+     * @throws IOException If the file couldn't be read
+     */
+    public DataContainer readFrom(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return BinaryDataFormat.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public void writeTo(final OutputStream output, final DataView data) throws IOException {
+        final Map<String, Integer> keys = new LinkedHashMap<>();
+        // The body is encoded first as the dictionary is filled in along the way
+        final byte[] body = BinaryDataFormat.encodeView(data, keys);
+        try (final DataOutputStream out = new DataOutputStream(output)) {
+            out.writeInt(BinaryDataFormat.MAGIC);
+            out.writeByte(BinaryDataFormat.VERSION);
+            BinaryDataFormat.writeVarInt(out, keys.size());
+            for (final String key : keys.keySet()) {
+                BinaryDataFormat.writeString(out, key);
+            }
+            out.write(body);
+        }
+    }
+
+    private static DataContainer read(final ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != BinaryDataFormat.MAGIC) {
+                throw new InvalidDataException("Not binary data");
+            }
+            final byte version = buffer.get();
+            if (version != BinaryDataFormat.VERSION) {
+                throw new InvalidDataException("Unsupported binary data version " + version);
+            }
+            final String[] keys = new String[BinaryDataFormat.readLength(buffer)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = BinaryDataFormat.readString(buffer);
+            }
+            final ByteBuffer body = buffer.slice();
+            // Decoded from a duplicate, so a failed load fails the same way when it's retried
+            return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED,
+                    container -> BinaryDataFormat.readView(body.duplicate(), keys, container));
+        } catch (final BufferUnderflowException e) {
+            throw new InvalidDataException("Truncated binary data", e);
+        }
+    }
+
+    private static void readView(final ByteBuffer buffer, final String[] keys, final DataView view) {
+        try {
+            final int count = BinaryDataFormat.readLength(buffer);
+            for (int i = 0; i < count; i++) {
+                final String key = keys[BinaryDataFormat.readVarInt(buffer)];
+                final byte tag = buffer.get();
+                if (tag == BinaryDataFormat.TAG_VIEW) {
+                    final ByteBuffer body = BinaryDataFormat.slice(buffer);
+                    if (view instanceof MemoryDataView) {
+                        ((MemoryDataView) view).createLazyView(key, internal -> BinaryDataFormat.readView(body.duplicate(), keys, internal));
+                    } else {
+                        BinaryDataFormat.readView(body, keys, view.createView(DataQuery.of(key)));
+                    }
+                } else {
+                    final Object value = BinaryDataFormat.readValue(buffer, tag, keys);
+                    if (value != null) {
+                        view.set(DataQuery.of(key), value);
+                    }
+                }
+            }
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new InvalidDataException("Malformed binary data", e);
+        }
+    }
+
+    @Nullable
+    private static Object readValue(final ByteBuffer buffer, final byte tag, final String[] keys) {
+        switch (tag) {
+            case BinaryDataFormat.TAG_NULL:
+                return null;
+            case BinaryDataFormat.TAG_BOOLEAN:
+                return buffer.get() != 0;
+            case BinaryDataFormat.TAG_BYTE:
+                return buffer.get();
+            case BinaryDataFormat.TAG_SHORT:
+                return buffer.getShort();
+            case BinaryDataFormat.TAG_INT: {
+                final int zigZag = BinaryDataFormat.readVarInt(buffer);
+                return zigZag >>> 1 ^ -(zigZag & 1);
+            }
+            case BinaryDataFormat.TAG_LONG: {
+                final long zigZag = BinaryDataFormat.readVarLong(buffer);
+                return zigZag >>> 1 ^ -(zigZag & 1);
+            }
+            case BinaryDataFormat.TAG_FLOAT:
+                return buffer.getFloat();
+            case BinaryDataFormat.TAG_DOUBLE:
+                return buffer.getDouble();
+            case BinaryDataFormat.TAG_STRING:
+                return BinaryDataFormat.readString(buffer);
+            case BinaryDataFormat.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[BinaryDataFormat.readLength(buffer)];
+                buffer.get(array);
+                return array;
+            }
+            case BinaryDataFormat.TAG_INT_ARRAY: {
+                final int[] array = new int[BinaryDataFormat.readLength(buffer)];
+                buffer.asIntBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Integer.BYTES);
+                return array;
+            }
+            case BinaryDataFormat.TAG_LONG_ARRAY: {
+                final long[] array = new long[BinaryDataFormat.readLength(buffer)];
+                buffer.asLongBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Long.BYTES);
+                return array;
+            }
+            case BinaryDataFormat.TAG_CHAR:
+                return buffer.getChar();
+            case BinaryDataFormat.TAG_SHORT_ARRAY: {
+                final short[] array = new short[BinaryDataFormat.readLength(buffer)];
+                buffer.asShortBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Short.BYTES);
+                return array;
+            }
+            case BinaryDataFormat.TAG_FLOAT_ARRAY: {
+                final float[] array = new float[BinaryDataFormat.readLength(buffer)];
+                buffer.asFloatBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Float.BYTES);
+                return array;
+            }
+            case BinaryDataFormat.TAG_DOUBLE_ARRAY: {
+                final double[] array = new double[BinaryDataFormat.readLength(buffer)];
+                buffer.asDoubleBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Double.BYTES);
+                return array;
+            }
+            case BinaryDataFormat.TAG_BOOLEAN_ARRAY: {
+                final boolean[] array = new boolean[BinaryDataFormat.readLength(buffer)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = buffer.get() != 0;
+                }
+                return array;
+            }
+            case BinaryDataFormat.TAG_OBJECT_ARRAY: {
+                final Object[] array = new Object[BinaryDataFormat.readLength(buffer)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = BinaryDataFormat.readValue(buffer, buffer.get(), keys);
+                }
+                return array;
+            }
+            case BinaryDataFormat.TAG_LIST: {
+                final int size = BinaryDataFormat.readLength(buffer);
+                final List<Object> list = Lists.newArrayListWithCapacity(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(BinaryDataFormat.readValue(buffer, buffer.get(), keys));
+                }
+                return list;
+            }
+            case BinaryDataFormat.TAG_VIEW: {
+                final ByteBuffer body = BinaryDataFormat.slice(buffer);
+                return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, container -> BinaryDataFormat.readView(body.duplicate(), keys, container));
+            }
+            default:
+                throw new InvalidDataException("Unknown binary data tag " + tag);
+        }
+    }
+
+    private static byte[] encodeView(final DataView view, final Map<String, Integer> keys) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final Set<DataQuery> queries = view.getKeys(false);
+        BinaryDataFormat.writeVarInt(out, queries.size());
+        for (final DataQuery query : queries) {
+            BinaryDataFormat.writeVarInt(out, BinaryDataFormat.keyIndex(keys, query.asString('.')));
+            BinaryDataFormat.writeValue(out, view.get(query).orElse(null), keys);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeMap(final Map<?, ?> map, final Map<String, Integer> keys) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        BinaryDataFormat.writeVarInt(out, map.size());
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            final Object key = entry.getKey();
+            final String name = key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString();
+            BinaryDataFormat.writeVarInt(out, BinaryDataFormat.keyIndex(keys, name));
+            BinaryDataFormat.writeValue(out, entry.getValue(), keys);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeValue(final DataOutputStream out, @Nullable final Object value, final Map<String, Integer> keys)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(BinaryDataFormat.TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BinaryDataFormat.TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BinaryDataFormat.TAG_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(BinaryDataFormat.TAG_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            final int intValue = (Integer) value;
+            out.writeByte(BinaryDataFormat.TAG_INT);
+            BinaryDataFormat.writeVarInt(out, intValue << 1 ^ intValue >> 31);
+        } else if (value instanceof Long) {
+            final long longValue = (Long) value;
+            out.writeByte(BinaryDataFormat.TAG_LONG);
+            BinaryDataFormat.writeVarLong(out, longValue << 1 ^ longValue >> 63);
+        } else if (value instanceof Float) {
+            out.writeByte(BinaryDataFormat.TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(BinaryDataFormat.TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte(BinaryDataFormat.TAG_STRING);
+            BinaryDataFormat.writeString(out, (String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            out.writeByte(BinaryDataFormat.TAG_BYTE_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            out.write(array);
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            out.writeByte(BinaryDataFormat.TAG_INT_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final int element : array) {
+                out.writeInt(element);
+            }
+        } else if (value instanceof long[]) {
+            final long[] array = (long[]) value;
+            out.writeByte(BinaryDataFormat.TAG_LONG_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final long element : array) {
+                out.writeLong(element);
+            }
+        } else if (value instanceof Character) {
+            out.writeByte(BinaryDataFormat.TAG_CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof short[]) {
+            final short[] array = (short[]) value;
+            out.writeByte(BinaryDataFormat.TAG_SHORT_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final short element : array) {
+                out.writeShort(element);
+            }
+        } else if (value instanceof float[]) {
+            final float[] array = (float[]) value;
+            out.writeByte(BinaryDataFormat.TAG_FLOAT_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final float element : array) {
+                out.writeFloat(element);
+            }
+        } else if (value instanceof double[]) {
+            final double[] array = (double[]) value;
+            out.writeByte(BinaryDataFormat.TAG_DOUBLE_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final double element : array) {
+                out.writeDouble(element);
+            }
+        } else if (value instanceof boolean[]) {
+            final boolean[] array = (boolean[]) value;
+            out.writeByte(BinaryDataFormat.TAG_BOOLEAN_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final boolean element : array) {
+                out.writeBoolean(element);
+            }
+        } else if (value instanceof Object[]) {
+            final Object[] array = (Object[]) value;
+            out.writeByte(BinaryDataFormat.TAG_OBJECT_ARRAY);
+            BinaryDataFormat.writeVarInt(out, array.length);
+            for (final Object element : array) {
+                BinaryDataFormat.writeValue(out, element, keys);
+            }
+        } else if (value instanceof Iterable) {
+            final Collection<?> collection = value instanceof Collection ? (Collection<?>) value : Lists.newArrayList((Iterable<?>) value);
+            out.writeByte(BinaryDataFormat.TAG_LIST);
+            BinaryDataFormat.writeVarInt(out, collection.size());
+            for (final Object element : collection) {
+                BinaryDataFormat.writeValue(out, element, keys);
+            }
+        } else if (value instanceof Map) {
+            BinaryDataFormat.writeView(out, BinaryDataFormat.encodeMap((Map<?, ?>) value, keys));
+        } else if (value instanceof DataSerializable) {
+            BinaryDataFormat.writeView(out, BinaryDataFormat.encodeView(((DataSerializable) value).toContainer(), keys));
+        } else if (value instanceof DataView) {
+            BinaryDataFormat.writeView(out, BinaryDataFormat.encodeView((DataView) value, keys));
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to binary: " + value);
+        }
+    }
+
+    private static void writeView(final DataOutputStream out, final byte[] body) throws IOException {
+        out.writeByte(BinaryDataFormat.TAG_VIEW);
+        BinaryDataFormat.writeVarInt(out, body.length);
+        out.write(body);
+    }
+
+    private static int keyIndex(final Map<String, Integer> keys, final String key) {
+        final Integer index = keys.get(key);
+        if (index != null) {
+            return index;
+        }
+        final int next = keys.size();
+        keys.put(key, next);
+        return next;
+    }
+
+    /**
+     * Reads a length or element count, every element takes up at least one
+     * byte so anything beyond the remaining bytes can only be malformed.
+     *
+     * @param buffer The buffer to read from
+     * @return The length
+     */
+    private static int readLength(final ByteBuffer buffer) {
+        final int length = BinaryDataFormat.readVarInt(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new InvalidDataException("Malformed binary data, length " + length + " exceeds the remaining "
+                    + buffer.remaining() + " bytes");
+        }
+        return length;
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer) {
+        // Checked here, otherwise a bad length only fails once the view is accessed
+        final int length = BinaryDataFormat.readLength(buffer);
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        BinaryDataFormat.writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = BinaryDataFormat.readLength(buffer);
+        if (buffer.hasArray()) {
+            final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(final DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeVarLong(final DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("Variable length int is too long");
+    }
+
+    private static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("Variable length long is too long");
+    }
+}
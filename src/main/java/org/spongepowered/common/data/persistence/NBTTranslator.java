@@ -36,6 +36,8 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.util.Constants;
 
 import java.util.List;
@@ -175,8 +177,15 @@ private static DataContainer getViewFromCompound(CompoundTag compound) {
         return container;
     }
 
+    private static void addTo(final CompoundTag compound, final DataView view, final boolean lazy) {
+        for (final String key : compound.getAllKeys()) {
+            final Tag base = compound.get(key);
+            NBTTranslator.setInternal(base, base.getId(), view, key, lazy);
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static void setInternal(Tag base, byte type, DataView view, String key) {
+    private static void setInternal(Tag base, byte type, DataView view, String key, boolean lazy) {
         checkNotNull(base);
         checkNotNull(view);
         checkNotNull(key);
@@ -222,8 +231,13 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 view.set(of(key), objectList);
                 break;
             case Constants.NBT.TAG_COMPOUND:
-                DataView internalView = view.createView(of(key));
                 CompoundTag compound = (CompoundTag) base;
+                if (lazy && view instanceof MemoryDataView) {
+                    // Only translated once something actually looks into this view.
+                    ((MemoryDataView) view).createLazyView(key, internal -> NBTTranslator.addTo(compound, internal, true));
+                    break;
+                }
+                DataView internalView = view.createView(of(key));
                 for (String internalKey : compound.getAllKeys()) {
                     Tag internalBase = compound.get(internalKey);
                     byte internalType = internalBase.getId();
@@ -231,7 +245,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                     // Reasoning: This avoids creating a new DataContainer which would
                     // then be copied in to the owning DataView anyways. We can internally
                     // set the actual data directly to the child view instead.
-                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey);
+                    NBTTranslator.setInternal(internalBase, internalType, internalView, internalKey, lazy);
                 }
                 break;
             case Constants.NBT.TAG_INT_ARRAY:
@@ -292,6 +306,24 @@ public DataContainer translateFrom(CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Translates the given compound into a {@link DataContainer} that reads
+     * through to the compound, only translating each nested compound once it
+     * is first accessed. Anything set on the container is kept in the
+     * container and never written back to the compound.
+     *
+     * <p>As the compound is read lazily, it must not be modified afterwards.
+     * Callers holding a compound that may still change should either copy it
+     * or use {@link #translate(CompoundTag)}.</p>
+     *
+     * @param compound The compound to translate
+     * @return The lazily translated container
+     */
+    public DataContainer translateLazily(final CompoundTag compound) {
+        checkNotNull(compound);
+        return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, container -> NBTTranslator.addTo(compound, container, true));
+    }
+
     @Override
     public TypeToken<CompoundTag> getToken() {
         return NBTTranslator.TOKEN;
@@ -309,11 +341,7 @@ public DataContainer translate(CompoundTag obj) throws InvalidDataException {
 
     @Override
     public DataView addTo(CompoundTag compound, DataView container) {
-        for (String key : compound.getAllKeys()) {
-            Tag base = compound.get(key);
-            byte type = base.getId();
-            NBTTranslator.setInternal(base, type, container, key); // gotta love recursion
-        }
+        NBTTranslator.addTo(compound, container, false); // gotta love recursion
         return container;
     }
 }
@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -45,6 +46,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -80,9 +82,33 @@ public int hashCode() {
         }
 
     }
+
+    /**
+     * The delegate providers of a single holder type, indexed by {@link SpongeKey#getId()}.
+     * Slots are filled in lazily, a {@code null} slot hasn't been resolved yet.
+     */
+    private static final class ProviderTable {
+
+        final int version;
+        final DataProvider<?, ?>[] providers;
+
+        ProviderTable(final int version, final int size) {
+            this.version = version;
+            this.providers = new DataProvider<?, ?>[size];
+        }
+    }
+
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
     private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
+    private final ClassValue<AtomicReference<ProviderTable>> providerTables = new ClassValue<AtomicReference<ProviderTable>>() {
+        @Override
+        protected AtomicReference<ProviderTable> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    // Bumped on every registration so stale provider tables get rebuilt
+    private volatile int providerVersion;
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
         // Filter out data providers of which we know that they will never be relevant.
@@ -190,6 +216,38 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
+        if (!(key instanceof SpongeKey)) {
+            return this.getProviderByLookupKey(key, dataHolderType);
+        }
+        final int id = ((SpongeKey<V, E>) key).getId();
+        final AtomicReference<ProviderTable> reference = this.providerTables.get(dataHolderType);
+        final int version = this.providerVersion;
+        @Nullable ProviderTable table = reference.get();
+        if (table == null || table.version != version || id >= table.providers.length) {
+            table = new ProviderTable(version, Math.max(SpongeKey.getKeyCount(), id + 1));
+            reference.set(table);
+        }
+        @Nullable DataProvider<?, ?> provider = table.providers[id];
+        if (provider == null) {
+            // Resolving the same slot twice from different threads is harmless, both resolve the same delegate
+            provider = this.buildDelegate(key, p -> DataProviderRegistry.filterHolderType(p, dataHolderType));
+            table.providers[id] = provider;
+        }
+        return (DataProvider<V, E>) provider;
+    }
+
+    /**
+     * Gets a delegate data provider through the shared lookup cache, which is used
+     * for {@link Key}s that aren't {@link SpongeKey}s and thus have no dense id.
+     *
+     * @param key The key
+     * @param dataHolderType The data holder type
+     * @param <V> The value type
+     * @param <E> The element type of the value
+     * @return The delegate data provider
+     */
+    @SuppressWarnings({"unchecked"})
+    <V extends Value<E>, E> DataProvider<V, E> getProviderByLookupKey(final Key<V> key, final Class<?> dataHolderType) {
         return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
     }
 
@@ -202,6 +260,18 @@ public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.getKey(), provider);
         this.dataProviderCache.clear();
         this.dataProviderLookupCache.clear();
+        this.providerVersion++;
+    }
+
+    /**
+     * Gets the current provider version, which changes whenever a provider is
+     * registered. Anything derived from the registered providers can compare
+     * versions to know it has to be rebuilt.
+     *
+     * @return The provider version
+     */
+    public int getProviderVersion() {
+        return this.providerVersion;
     }
 
     public void registerDefaultProviders() {
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.value;
+
+import org.spongepowered.api.data.value.Value;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the immutable values of integers within a small range, which covers
+ * most block state properties, levels and durabilities. Values are only
+ * created once requested.
+ */
+final class CachedIntegerValueConstructor implements ValueConstructor<Value<Integer>, Integer> {
+
+    private static final int MIN = -128;
+    private static final int MAX = 1023;
+
+    private final ValueConstructor<Value<Integer>, Integer> original;
+    private final AtomicReferenceArray<Value<Integer>> immutableValues =
+            new AtomicReferenceArray<>(CachedIntegerValueConstructor.MAX - CachedIntegerValueConstructor.MIN + 1);
+
+    CachedIntegerValueConstructor(final ValueConstructor<Value<Integer>, Integer> original) {
+        this.original = original;
+    }
+
+    @Override
+    public Value<Integer> getMutable(final Integer element) {
+        return this.original.getMutable(element);
+    }
+
+    @Override
+    public Value<Integer> getImmutable(final Integer element) {
+        final int value = element;
+        if (value < CachedIntegerValueConstructor.MIN || value > CachedIntegerValueConstructor.MAX) {
+            ValueConstructorFactory.CACHE_MISSES.increment();
+            return this.original.getImmutable(element);
+        }
+        final int index = value - CachedIntegerValueConstructor.MIN;
+        final Value<Integer> cached = this.immutableValues.get(index);
+        if (cached != null) {
+            ValueConstructorFactory.CACHE_HITS.increment();
+            return cached;
+        }
+        ValueConstructorFactory.CACHE_MISSES.increment();
+        final Value<Integer> created = this.original.getImmutable(element);
+        // Another thread may have won, either value is fine to hand out
+        this.immutableValues.compareAndSet(index, null, created);
+        return created;
+    }
+
+    @Override
+    public Value<Integer> getRawImmutable(final Integer element) {
+        return this.getImmutable(element);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.value;
+
+import org.spongepowered.api.data.value.Value;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the immutable values of elements from a game registry, such as
+ * block and item types. These only have as many distinct elements as the
+ * registry has entries, so every one of them is kept once requested.
+ */
+final class CachedRegistryValueConstructor<V extends Value<E>, E> implements ValueConstructor<V, E> {
+
+    private final ValueConstructor<V, E> original;
+    private final Map<E, V> immutableValues = new ConcurrentHashMap<>();
+
+    CachedRegistryValueConstructor(final ValueConstructor<V, E> original) {
+        this.original = original;
+    }
+
+    @Override
+    public V getMutable(final E element) {
+        return this.original.getMutable(element);
+    }
+
+    @Override
+    public V getImmutable(final E element) {
+        final V cached = this.immutableValues.get(element);
+        if (cached != null) {
+            ValueConstructorFactory.CACHE_HITS.increment();
+            return cached;
+        }
+        ValueConstructorFactory.CACHE_MISSES.increment();
+        final V created = this.original.getImmutable(element);
+        final V previous = this.immutableValues.putIfAbsent(element, created);
+        return previous == null ? created : previous;
+    }
+
+    @Override
+    public V getRawImmutable(final E element) {
+        return this.getImmutable(element);
+    }
+}
@@ -24,23 +24,77 @@
  */
 package org.spongepowered.common.data.value;
 
+import com.google.common.collect.ImmutableSet;
 import io.leangen.geantyref.GenericTypeReflector;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.type.DyeColor;
 import org.spongepowered.api.data.value.ListValue;
 import org.spongepowered.api.data.value.MapValue;
 import org.spongepowered.api.data.value.SetValue;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.api.data.value.WeightedCollectionValue;
+import org.spongepowered.api.effect.potion.PotionEffectType;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.fluid.FluidType;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.enchantment.EnchantmentType;
 import org.spongepowered.api.util.weighted.WeightedTable;
 import org.spongepowered.common.data.key.SpongeKey;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class ValueConstructorFactory {
 
+    /**
+     * Element types backed by a game scoped registry, whose elements live as
+     * long as the game does and are compared by identity.
+     */
+    private static final Set<Class<?>> REGISTRY_ELEMENT_TYPES = ImmutableSet.of(
+            BlockType.class,
+            DyeColor.class,
+            EnchantmentType.class,
+            EntityType.class,
+            FluidType.class,
+            ItemType.class,
+            PotionEffectType.class
+    );
+
+    static final LongAdder CACHE_HITS = new LongAdder();
+    static final LongAdder CACHE_MISSES = new LongAdder();
+
+    /**
+     * Gets the number of immutable values that were served from the integer
+     * and registry value caches.
+     *
+     * @return The number of cache hits
+     */
+    public static long getCacheHits() {
+        return ValueConstructorFactory.CACHE_HITS.sum();
+    }
+
+    /**
+     * Gets the number of immutable values that had to be created by the
+     * integer and registry value caches.
+     *
+     * @return The number of cache misses
+     */
+    public static long getCacheMisses() {
+        return ValueConstructorFactory.CACHE_MISSES.sum();
+    }
+
+    /**
+     * Resets the cache hit and miss counters.
+     */
+    public static void resetCacheCounters() {
+        ValueConstructorFactory.CACHE_HITS.reset();
+        ValueConstructorFactory.CACHE_MISSES.reset();
+    }
+
     public static <V extends Value<E>, E> ValueConstructor<V, E> getConstructor(final SpongeKey<V, E> key) {
         final Class<?> valueType = GenericTypeReflector.erase(key.getValueType());
         ValueConstructor<V, E> valueConstructor;
@@ -72,6 +126,11 @@ public static <V extends Value<E>, E> ValueConstructor<V, E> getConstructor(fina
             } else if (elementType == Boolean.class) {
                 valueConstructor = (ValueConstructor<V, E>) new CachedBooleanValueConstructor(
                         (ValueConstructor<Value<Boolean>, Boolean>) valueConstructor);
+            } else if (elementType == Integer.class) {
+                valueConstructor = (ValueConstructor<V, E>) new CachedIntegerValueConstructor(
+                        (ValueConstructor<Value<Integer>, Integer>) valueConstructor);
+            } else if (ValueConstructorFactory.REGISTRY_ELEMENT_TYPES.contains(elementType)) {
+                valueConstructor = new CachedRegistryValueConstructor<>(valueConstructor);
             }
         }
         return valueConstructor;
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The maximum amount of collisions of every entity and block type in a
+ * world, resolved once per type from the entity collision config of the
+ * world. The table is cleared whenever the config is reloaded.
+ *
+ * <p>Types added to the config while auto-populating are saved by
+ * {@link #saveIfDirty()} at the end of the world tick, rather than from
+ * within the collision queries that discovered them.</p>
+ */
+public final class EntityCollisionTable {
+
+    private final Supplier<InheritableConfigHandle<WorldConfig>> config;
+    private final Map<ResourceKey, Integer> entities = new ConcurrentHashMap<>();
+    private final Map<ResourceKey, Integer> blocks = new ConcurrentHashMap<>();
+    private volatile InheritableConfigHandle<WorldConfig> currentConfig;
+    private volatile int currentLoadCount;
+    private volatile boolean dirty;
+
+    public EntityCollisionTable(final Supplier<InheritableConfigHandle<WorldConfig>> config) {
+        this.config = config;
+    }
+
+    private InheritableConfigHandle<WorldConfig> validate() {
+        final InheritableConfigHandle<WorldConfig> config = this.config.get();
+        final int loadCount = config.getLoadCount();
+        if (config != this.currentConfig || loadCount != this.currentLoadCount) {
+            this.entities.clear();
+            this.blocks.clear();
+            this.currentConfig = config;
+            this.currentLoadCount = loadCount;
+        }
+        return config;
+    }
+
+    /**
+     * Gets the maximum amount of entities an entity of the given type may
+     * collide with. Items use the key of their item type.
+     *
+     * @param key The key of the entity type
+     * @return The maximum amount of collisions, or a negative value if unlimited
+     */
+    public int getEntityMaxCollisions(final ResourceKey key) {
+        final InheritableConfigHandle<WorldConfig> config = this.validate();
+        return this.entities.computeIfAbsent(key, k -> this.resolve(config, k, false));
+    }
+
+    /**
+     * Gets the maximum amount of entities a block of the given type may
+     * collide with.
+     *
+     * @param key The key of the block type
+     * @return The maximum amount of collisions, or a negative value if unlimited
+     */
+    public int getBlockMaxCollisions(final ResourceKey key) {
+        final InheritableConfigHandle<WorldConfig> config = this.validate();
+        return this.blocks.computeIfAbsent(key, k -> this.resolve(config, k, true));
+    }
+
+    /**
+     * Saves the config of the world if types were added to it since the
+     * last save.
+     */
+    public void saveIfDirty() {
+        final InheritableConfigHandle<WorldConfig> config = this.currentConfig;
+        if (this.dirty && config != null) {
+            this.dirty = false;
+            config.save();
+        }
+    }
+
+    private int resolve(final InheritableConfigHandle<WorldConfig> config, final ResourceKey key, final boolean block) {
+        final EntityCollisionCategory category = config.get().entityCollision;
+        if (category.maxEntitiesWithinAABB <= 0) {
+            // Collision limits are disabled in this world
+            return -1;
+        }
+        final EntityCollisionCategory.ModSubCategory modCategory = config.getOrCreateValue(s -> s.entityCollision.mods.get(key.getNamespace()),
+                c -> c.entityCollision.mods.put(key.getNamespace(), new EntityCollisionCategory.ModSubCategory(key.getNamespace())),
+                category.autoPopulate);
+        int maxCollisions = category.maxEntitiesWithinAABB;
+        if (modCategory == null) {
+            return maxCollisions;
+        }
+        if (!modCategory.enabled) {
+            return -1;
+        }
+        final Integer modDefault = block ? modCategory.blockDefault : modCategory.entityDefault;
+        if (modDefault != null) {
+            maxCollisions = modDefault;
+        }
+        final Map<String, Integer> overrides = block ? modCategory.blocks : modCategory.entities;
+        final Integer override = overrides.get(key.getValue());
+        if (override != null) {
+            maxCollisions = override;
+        } else if (category.autoPopulate && maxCollisions > 0) {
+            overrides.put(key.getValue(), maxCollisions);
+            this.dirty = true;
+        }
+        return maxCollisions;
+    }
+}
@@ -128,7 +128,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateFrom(this.compound == null ? new CompoundTag() : this.compound);
+        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateLazily(this.compound == null ? new CompoundTag() : this.compound);
         final DataContainer container = DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, this.getContentVersion())
                 .set(Queries.WORLD_KEY, this.worldKey.getFormatted())
@@ -257,7 +257,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translateLazily(this.compound);
     }
 
     @Override
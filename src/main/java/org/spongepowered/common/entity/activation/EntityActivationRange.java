@@ -0,0 +1,323 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.AgeableMob;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LightningBolt;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.boss.EnderDragonPart;
+import net.minecraft.world.entity.boss.enderdragon.EnderDragon;
+import net.minecraft.world.entity.boss.wither.WitherBoss;
+import net.minecraft.world.entity.item.FallingBlockEntity;
+import net.minecraft.world.entity.item.PrimedTnt;
+import net.minecraft.world.entity.npc.Villager;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.entity.raid.Raider;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
+
+import java.util.Map;
+
+/**
+ * Skips the ticks of entities that are too far away from any player to
+ * matter. Every world tick, {@link #activateEntities(ServerLevel)} marks the
+ * entities within the activation range of a player as active, and
+ * {@link #checkIfActive(Entity)} is consulted right before an entity ticks.
+ *
+ * <p>Entities that are outside of any range still tick once every 20 ticks
+ * and stay active as long as one of their immunities applies, so that
+ * burning, riding, fighting or breeding entities aren't frozen mid action.</p>
+ */
+public final class EntityActivationRange {
+
+    public static final byte ACTIVATION_TYPE_MISC = 0;
+    public static final byte ACTIVATION_TYPE_MONSTER = 1;
+    public static final byte ACTIVATION_TYPE_CREATURE = 2;
+    public static final byte ACTIVATION_TYPE_AQUATIC = 3;
+    public static final byte ACTIVATION_TYPE_AMBIENT = 4;
+
+    private static final String[] ACTIVATION_TYPE_NAMES = {"misc", "monster", "creature", "aquatic", "ambient"};
+
+    /**
+     * Gets the activation type of the entity, based on its mob category.
+     *
+     * @param entity The entity
+     * @return The activation type
+     */
+    public static byte getActivationType(final Entity entity) {
+        switch (entity.getType().getCategory()) {
+            case MONSTER:
+                return EntityActivationRange.ACTIVATION_TYPE_MONSTER;
+            case CREATURE:
+                return EntityActivationRange.ACTIVATION_TYPE_CREATURE;
+            case WATER_CREATURE:
+            case WATER_AMBIENT:
+                return EntityActivationRange.ACTIVATION_TYPE_AQUATIC;
+            case AMBIENT:
+                return EntityActivationRange.ACTIVATION_TYPE_AMBIENT;
+            default:
+                return EntityActivationRange.ACTIVATION_TYPE_MISC;
+        }
+    }
+
+    /**
+     * Gets whether the entity has to tick every tick, regardless of the
+     * distance to the players.
+     *
+     * @param entity The entity
+     * @return Whether the entity is always active
+     */
+    private static boolean isAlwaysActive(final Entity entity) {
+        return entity instanceof Player
+                || entity instanceof Projectile
+                || entity instanceof EnderDragon
+                || entity instanceof EnderDragonPart
+                || entity instanceof WitherBoss
+                || entity instanceof LightningBolt
+                || entity instanceof PrimedTnt
+                || entity instanceof FallingBlockEntity;
+    }
+
+    /**
+     * Reads the activation range of the entity from the config of its world
+     * and stores it, together with its default activation state.
+     *
+     * @param entity The entity
+     */
+    public static void initializeEntityActivationState(final Entity entity) {
+        final ActivationCapabilityBridge bridge = (ActivationCapabilityBridge) entity;
+        bridge.activation$setActivatedTick(SpongeCommon.getServer().getTickCount());
+        if (entity.level.isClientSide() || ((WorldBridge) entity.level).bridge$isFake()
+                || !((ServerWorldInfoBridge) entity.level.getLevelData()).bridge$valid()
+                || EntityActivationRange.isAlwaysActive(entity)) {
+            bridge.activation$setDefaultActivationState(true);
+            return;
+        }
+        final EntityActivationRangeCategory config = ((ServerWorldInfoBridge) entity.level.getLevelData()).bridge$configAdapter().get()
+                .entityActivationRange;
+        final int range = EntityActivationRange.getActivationRange(config, entity.getType(), bridge.activation$getActivationType());
+        bridge.activation$setActivationRange(range);
+        bridge.activation$setDefaultActivationState(range <= 0);
+    }
+
+    private static int getActivationRange(final EntityActivationRangeCategory config, final EntityType<?> type, final byte activationType) {
+        final String typeName = EntityActivationRange.ACTIVATION_TYPE_NAMES[activationType];
+        final ResourceLocation key = EntityType.getKey(type);
+        Integer range = config.globalRanges.get(typeName);
+        final EntityActivationRangeCategory.ModSubCategory modConfig = config.mods.get(key.getNamespace());
+        if (modConfig != null) {
+            if (!modConfig.enabled) {
+                return 0;
+            }
+            final Integer modRange = modConfig.defaultRanges.get(typeName);
+            if (modRange != null) {
+                range = modRange;
+            }
+            final Integer entityRange = modConfig.entities.get(key.getPath());
+            if (entityRange != null) {
+                range = entityRange;
+            }
+        }
+        return range == null ? 0 : range;
+    }
+
+    /**
+     * Gets the largest activation range of any activation type, mod or
+     * entity in the config.
+     *
+     * @param config The activation range config of a world
+     * @return The largest range
+     */
+    public static int getMaxActivationRange(final EntityActivationRangeCategory config) {
+        int max = 0;
+        for (final int range : config.globalRanges.values()) {
+            max = Math.max(max, range);
+        }
+        for (final EntityActivationRangeCategory.ModSubCategory modConfig : config.mods.values()) {
+            for (final int range : modConfig.defaultRanges.values()) {
+                max = Math.max(max, range);
+            }
+            for (final int range : modConfig.entities.values()) {
+                max = Math.max(max, range);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Marks all the entities within the activation range of a player as
+     * active for the current tick. Called once per world tick, before the
+     * entities are ticked.
+     *
+     * @param world The world
+     * @param maxRange The largest activation range in the config of the world
+     */
+    public static void activateEntities(final ServerLevel world, final int maxRange) {
+        if (maxRange <= 0) {
+            return;
+        }
+        final int currentTick = SpongeCommon.getServer().getTickCount();
+        for (final Player player : world.players()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            final AABB playerBB = player.getBoundingBox();
+            final AABB maxBB = playerBB.inflate(maxRange, 256, maxRange);
+            final int minChunkX = Mth.floor(maxBB.minX) >> 4;
+            final int maxChunkX = Mth.floor(maxBB.maxX) >> 4;
+            final int minChunkZ = Mth.floor(maxBB.minZ) >> 4;
+            final int maxChunkZ = Mth.floor(maxBB.maxZ) >> 4;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if (chunk != null) {
+                        EntityActivationRange.activateChunkEntities(playerBB, chunk, currentTick);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void activateChunkEntities(final AABB playerBB, final LevelChunk chunk, final int currentTick) {
+        for (final ClassInstanceMultiMap<Entity> section : chunk.getEntitySections()) {
+            for (final Entity entity : section) {
+                if (!(entity instanceof ActivationCapabilityBridge)) {
+                    continue;
+                }
+                final ActivationCapabilityBridge bridge = (ActivationCapabilityBridge) entity;
+                if (bridge.activation$requiresActivationCacheRefresh()) {
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    bridge.activation$requiresActivationCacheRefresh(false);
+                }
+                if (bridge.activation$getDefaultActivationState() || bridge.activation$getActivatedTick() >= currentTick) {
+                    continue;
+                }
+                final int range = bridge.activation$getActivationRange();
+                final AABB entityBB = entity.getBoundingBox();
+                // The player's box inflated by the range of the entity, without allocating it for every entity
+                if (playerBB.minX - range < entityBB.maxX && playerBB.maxX + range > entityBB.minX
+                        && playerBB.minY - 256 < entityBB.maxY && playerBB.maxY + 256 > entityBB.minY
+                        && playerBB.minZ - range < entityBB.maxZ && playerBB.maxZ + range > entityBB.minZ) {
+                    bridge.activation$setActivatedTick(currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether the entity is doing something that must not be
+     * interrupted, even though no player is nearby.
+     *
+     * @param entity The entity
+     * @return Whether the entity is immune to being deactivated
+     */
+    private static boolean checkEntityImmunities(final Entity entity) {
+        if (entity.isInWater() || entity.getRemainingFireTicks() > 0) {
+            return true;
+        }
+        if (!entity.isOnGround() || entity.isVehicle() || entity.isPassenger()) {
+            return true;
+        }
+        if (entity instanceof LivingEntity) {
+            final LivingEntity living = (LivingEntity) entity;
+            if (living.hurtTime > 0 || !living.getActiveEffects().isEmpty()) {
+                return true;
+            }
+            if (entity instanceof Mob && ((Mob) entity).getTarget() != null) {
+                return true;
+            }
+            if (entity instanceof Villager) {
+                final Villager villager = (Villager) entity;
+                // Villagers on their way to work or trading with a player
+                if (villager.isTrading() || villager.getBrain().hasMemoryValue(MemoryModuleType.WALK_TARGET)) {
+                    return true;
+                }
+            }
+            if (entity instanceof Raider && ((Raider) entity).hasActiveRaid()) {
+                return true;
+            }
+            if (entity instanceof AgeableMob && ((AgeableMob) entity).isBaby()) {
+                return true;
+            }
+            if (entity instanceof Animal && ((Animal) entity).isInLove()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets whether the entity should tick this tick. Entities that shouldn't
+     * tick get an {@link ActivationCapabilityBridge#activation$inactiveTick()}
+     * instead.
+     *
+     * @param entity The entity
+     * @return Whether the entity should tick
+     */
+    public static boolean checkIfActive(final Entity entity) {
+        if (!(entity instanceof ActivationCapabilityBridge)) {
+            return true;
+        }
+        final ActivationCapabilityBridge bridge = (ActivationCapabilityBridge) entity;
+        if (bridge.activation$requiresActivationCacheRefresh()) {
+            EntityActivationRange.initializeEntityActivationState(entity);
+            bridge.activation$requiresActivationCacheRefresh(false);
+        }
+        if (bridge.activation$getDefaultActivationState()) {
+            return true;
+        }
+        final int currentTick = SpongeCommon.getServer().getTickCount();
+        final long activatedTick = bridge.activation$getActivatedTick();
+        if (activatedTick >= currentTick) {
+            return true;
+        }
+        // Check the immunities every 20 ticks, immune entities stay active for another 20 ticks
+        if ((currentTick - activatedTick - 1) % 20 == 0) {
+            if (EntityActivationRange.checkEntityImmunities(entity)) {
+                bridge.activation$setActivatedTick(currentTick + 20);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private EntityActivationRange() {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on execution counters of a {@link RegisteredListener}, covering
+ * synchronous and asynchronous posts. The counters are striped so that
+ * listeners invoked from many threads don't contend on a single field.
+ */
+public final class ListenerStatistics {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder exceptions = new LongAdder();
+
+    void record(final long nanos) {
+        this.invocations.increment();
+        this.totalNanos.add(nanos);
+        if (nanos > this.maxNanos.get()) {
+            this.maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    void recordException() {
+        this.exceptions.increment();
+    }
+
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long getAverageNanos() {
+        final long invocations = this.invocations.sum();
+        return invocations == 0 ? 0L : this.totalNanos.sum() / invocations;
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public long getExceptions() {
+        return this.exceptions.sum();
+    }
+
+    public void reset() {
+        this.invocations.reset();
+        this.totalNanos.reset();
+        this.maxNanos.set(0L);
+        this.exceptions.reset();
+    }
+}
@@ -40,6 +40,8 @@
 import java.util.EnumMap;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -50,14 +52,20 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final boolean asyncSafe;
+    @Nullable private final String methodName;
+    private final ListenerStatistics statistics = new ListenerStatistics();
     private Timing listenerTimer;
 
-    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            boolean asyncSafe, @Nullable String methodName) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.asyncSafe = asyncSafe;
+        this.methodName = methodName;
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +84,43 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener may run in parallel with other listeners of
+     * the same {@link Order} when an event is posted off the main thread.
+     *
+     * @return True if the listener is async-safe
+     */
+    public boolean isAsyncSafe() {
+        return this.asyncSafe;
+    }
+
+    /**
+     * Gets the name of the listener method, if this listener was registered
+     * from an annotated method.
+     *
+     * @return The name of the method, or null
+     */
+    @Nullable
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    /**
+     * Gets a short name of this listener, the simple name of the class of its
+     * handle followed by the listener method if it was registered from an
+     * annotated method.
+     *
+     * @return The name of this listener
+     */
+    public String getName() {
+        final String className = this.getHandle().getClass().getSimpleName();
+        return this.methodName == null ? className : className + "#" + this.methodName;
+    }
+
+    public ListenerStatistics getStatistics() {
+        return this.statistics;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -49,6 +49,7 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
@@ -78,7 +79,11 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -104,6 +109,20 @@ public final class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * The dispatch tables of non generic events, looked up by the event class
+     * directly so that posting doesn't need to allocate an {@link EventType}
+     * key. A baked table is stale once {@link #handlersVersion} changed.
+     */
+    private final ClassValue<AtomicReference<BakedHandlers>> dispatchTables = new ClassValue<AtomicReference<BakedHandlers>>() {
+        @Override
+        protected AtomicReference<BakedHandlers> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    private volatile int handlersVersion;
+    @Nullable private volatile ForkJoinPool listenerPool;
+
     @Inject
     public SpongeEventManager(final Logger logger) {
         this.logger = logger;
@@ -215,10 +234,17 @@ private void register(final List<RegisteredListener<? extends Event>> handlers)
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
+    private void invalidateHandlers() {
+        synchronized (this.lock) {
+            this.handlersVersion++;
+        }
+        this.handlersCache.invalidateAll();
+    }
+
     private void registerListener(PluginContainer plugin, Object listenerObject) {
         checkNotNull(plugin, "plugin");
         checkNotNull(listenerObject, "listener");
@@ -258,7 +284,7 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler));
+                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler, method.getName()));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -288,19 +314,29 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-            final Listener listener, final EventListener<? super T> handler) {
-        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+            final Listener listener, final EventListener<? super T> handler, final String methodName) {
+        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler, methodName);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final EventListener<? super T> handler, @Nullable final String methodName) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications,
+                SpongeEventManager.isAsyncSafe(plugin, handler), methodName);
+    }
+
+    private static boolean isAsyncSafe(final PluginContainer plugin, final EventListener<?> handler) {
+        final List<String> asyncSafeListeners = SpongeConfigs.getCommon().get().asyncEvents.asyncSafeListeners;
+        if (asyncSafeListeners.isEmpty()) {
+            return false;
+        }
+        final Object handle = handler instanceof SpongeEventListener ? ((SpongeEventListener<?>) handler).getHandle() : handler;
+        return asyncSafeListeners.contains(plugin.getMetadata().getId()) || asyncSafeListeners.contains(handle.getClass().getName());
     }
 
     @Override
@@ -322,25 +358,25 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final Class<T> eventClass, final Order order,
             final EventListener<? super T> listener) {
-        this.registerListener(plugin, eventClass, Order.DEFAULT, false, listener);
+        this.registerListener(plugin, eventClass, order, false, listener);
     }
 
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
             final EventListener<? super T> listener) {
-        this.registerListener(plugin, eventType, Order.DEFAULT, false, listener);
+        this.registerListener(plugin, eventType, order, false, listener);
     }
 
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final Class<T> eventClass, final Order order,
             final boolean beforeModifications, final EventListener<? super T> listener) {
-        this.registerListener(plugin, TypeToken.get(eventClass), Order.DEFAULT, false, listener);
+        this.registerListener(plugin, TypeToken.get(eventClass), order, beforeModifications, listener);
     }
 
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
             final boolean beforeModifications, final EventListener<? super T> listener) {
-        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, listener));
+        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, listener, null));
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
@@ -361,7 +397,18 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
+        }
+    }
+
+    /**
+     * Gets a snapshot of all the currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> getRegisteredListeners() {
+        synchronized (this.lock) {
+            return new ArrayList<>(this.handlersByEvent.values());
         }
     }
 
@@ -381,34 +428,41 @@ public void unregisterPluginListeners(final PluginContainer plugin) {
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            return this.handlersCache.get(new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType())));
+        }
+        final AtomicReference<BakedHandlers> table = this.dispatchTables.get(eventClass);
+        // Read the version before baking, a concurrent (un)registration
+        // then only causes the table to be baked again on the next post.
+        final int version = this.handlersVersion;
+        @Nullable final BakedHandlers baked = table.get();
+        if (baked != null && baked.version == version) {
+            return baked.cache;
         }
-        return this.handlersCache.get(eventType);
+        final RegisteredListener.Cache cache = this.bakeHandlers(new EventType(eventClass, null));
+        table.set(new BakedHandlers(version, cache));
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
     private boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
+        if (handlers.isEmpty()) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
         final Engine engine = EngineUtil.determineEngine();
 
         // If this event is being posted asynchronously then we don't want
         // to do any timing or cause stack changes
         if (engine == null) {
-            for (final RegisteredListener handler : handlers) {
-                try {
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = handler.getOrder();
-                    }
-                    SpongeCommon.setActivePlugin(handler.getPlugin());
-                    handler.handle(event);
-                } catch (final Throwable e) {
-                    SpongeCommon.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
-                } finally {
-                    SpongeCommon.setActivePlugin(null);
+            if (SpongeEventManager.hasAsyncSafeListener(handlers) && SpongeConfigs.getCommon().get().asyncEvents.parallelListeners) {
+                return this.postParallel(event, handlers);
+            }
+            for (int i = 0, size = handlers.size(); i < size; i++) {
+                final RegisteredListener handler = handlers.get(i);
+                if (event instanceof AbstractEvent) {
+                    ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
+                this.handleAsync(event, handler);
             }
             if (event instanceof AbstractEvent) {
                 ((AbstractEvent) event).currentOrder = null;
@@ -416,9 +470,13 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+        // Listener contexts are closed before the next listener is called, so
+        // whether the current phase allows them can't change during the post.
+        final boolean allowsListenerContext = PhaseTracker.getInstance().getPhaseContext().allowsEventListener();
+        for (int i = 0, size = handlers.size(); i < size; i++) {
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
             try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                 final PhaseContext<?> context = this.createPluginContext(handler);
+                 final PhaseContext<?> context = allowsListenerContext ? this.createPluginContext(handler) : null;
                  final Timing timings = handler.getTimingsHandler()) {
                 frame.pushCause(handler.getPlugin());
                 if (context != null) {
@@ -429,8 +487,14 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
                 SpongeCommon.setActivePlugin(handler.getPlugin());
-                handler.handle(event);
+                final long start = System.nanoTime();
+                try {
+                    handler.handle(event);
+                } finally {
+                    handler.getStatistics().record(System.nanoTime() - start);
+                }
             } catch (Throwable e) {
+                handler.getStatistics().recordException();
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
             } finally {
                 SpongeCommon.setActivePlugin(null);
@@ -442,13 +506,122 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
-    @Nullable
-    private EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
-        if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
-            return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
-                .source(handler.getPlugin());
+    private static boolean hasAsyncSafeListener(final List<RegisteredListener<?>> handlers) {
+        for (int i = 0, size = handlers.size(); i < size; i++) {
+            if (handlers.get(i).isAsyncSafe()) {
+                return true;
+            }
         }
-        return null;
+        return false;
+    }
+
+    /**
+     * Posts the event off the main thread, running the async-safe listeners of
+     * each {@link Order} in parallel on the shared listener pool. The other
+     * listeners of that order run on the posting thread once the parallel
+     * ones have completed, so only the parallel listeners of a single order
+     * may race on the cancellation of the event. Listeners of the next order
+     * only run once all listeners of the previous order have completed, so a
+     * cancellation is visible to the later orders.
+     *
+     * @param event The event
+     * @param handlers The handlers, sorted by order
+     * @return Whether the event was cancelled
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean postParallel(final Event event, final List<RegisteredListener<?>> handlers) {
+        final List<CompletableFuture<Void>> parallel = new ArrayList<>();
+        final int size = handlers.size();
+        int start = 0;
+        while (start < size) {
+            final Order order = handlers.get(start).getOrder();
+            if (event instanceof AbstractEvent) {
+                ((AbstractEvent) event).currentOrder = order;
+            }
+            int end = start;
+            for (; end < size && handlers.get(end).getOrder() == order; end++) {
+                final RegisteredListener handler = handlers.get(end);
+                if (handler.isAsyncSafe()) {
+                    parallel.add(CompletableFuture.runAsync(() -> this.handleParallel(event, handler), this.getListenerPool()));
+                }
+            }
+            // Wait on the posting thread, so the rest of the order runs here as well
+            if (!parallel.isEmpty()) {
+                CompletableFuture.allOf(parallel.toArray(new CompletableFuture[0])).join();
+                parallel.clear();
+            }
+            for (int i = start; i < end; i++) {
+                final RegisteredListener handler = handlers.get(i);
+                if (!handler.isAsyncSafe()) {
+                    this.handleAsync(event, handler);
+                }
+            }
+            start = end;
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Handles the event on a thread of the listener pool. The active plugin
+     * is a single global, so it isn't set from the pool threads.
+     *
+     * @param event The event
+     * @param handler The handler
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void handleParallel(final Event event, final RegisteredListener handler) {
+        final long start = System.nanoTime();
+        try {
+            handler.handle(event);
+        } catch (final Throwable e) {
+            handler.getStatistics().recordException();
+            SpongeCommon.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+        } finally {
+            handler.getStatistics().record(System.nanoTime() - start);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void handleAsync(final Event event, final RegisteredListener handler) {
+        final long start = System.nanoTime();
+        try {
+            SpongeCommon.setActivePlugin(handler.getPlugin());
+            handler.handle(event);
+        } catch (final Throwable e) {
+            handler.getStatistics().recordException();
+            SpongeCommon.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+        } finally {
+            handler.getStatistics().record(System.nanoTime() - start);
+            SpongeCommon.setActivePlugin(null);
+        }
+    }
+
+    private ForkJoinPool getListenerPool() {
+        if (this.listenerPool == null) {
+            synchronized (this.lock) {
+                if (this.listenerPool == null) {
+                    final int configured = SpongeConfigs.getCommon().get().asyncEvents.parallelism;
+                    final int parallelism = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+                    // A ForkJoinPool compensates for workers blocked joining
+                    // the listeners of an event posted from a listener.
+                    this.listenerPool = new ForkJoinPool(parallelism, pool -> {
+                        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                        thread.setName("Sponge-AsyncEventListener-" + thread.getPoolIndex());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, true);
+                }
+            }
+        }
+        return this.listenerPool;
+    }
+
+    private EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
+        return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
+            .source(handler.getPlugin());
     }
 
     @Override
@@ -468,6 +641,25 @@ public boolean post(final Event event) {
         }
     }
 
+    /**
+     * Posts the event and blocks the calling thread until every listener
+     * handled it. Off the main thread, async-safe listeners of the same
+     * {@link Order} run in parallel on the listener pool, see the
+     * 'async-events' configuration, while the other listeners run on the
+     * calling thread afterwards. On the main thread, or if parallel listeners
+     * are disabled, this is the same as {@link #post(Event)}.
+     *
+     * @param event The event
+     * @return Whether the event was cancelled
+     */
+    public boolean postParallel(final Event event) {
+        if (EngineUtil.determineEngine() != null || event instanceof InteractContainerEvent
+                || !SpongeConfigs.getCommon().get().asyncEvents.parallelListeners) {
+            return this.post(event);
+        }
+        return this.postParallel(event, this.getHandlerCache(event).getListeners());
+    }
+
     public boolean post(final Event event, final PluginContainer plugin) {
         final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
         final List<RegisteredListener<?>> pluginListeners = listeners.stream()
@@ -475,4 +667,15 @@ public boolean post(final Event event, final PluginContainer plugin) {
             .collect(Collectors.toList());
         return this.post(event, pluginListeners);
     }
+
+    private static final class BakedHandlers {
+
+        final int version;
+        final RegisteredListener.Cache cache;
+
+        BakedHandlers(final int version, final RegisteredListener.Cache cache) {
+            this.version = version;
+            this.cache = cache;
+        }
+    }
 }
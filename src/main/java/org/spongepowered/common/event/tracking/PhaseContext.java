@@ -134,7 +134,12 @@ public P addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        this.transactor = new TransactionalCaptureSupplier();
+        if (this.transactor == null) {
+            this.transactor = new TransactionalCaptureSupplier();
+        } else {
+            // Pooled contexts keep their supplier around, it only needs to be emptied
+            this.transactor.reset();
+        }
         return (P) this;
     }
 
@@ -324,6 +329,16 @@ public TransactionalCaptureSupplier getTransactor() {
         return this.transactor;
     }
 
+    /**
+     * Gets whether block transactions were captured in this context and are
+     * still waiting to be processed.
+     *
+     * @return True if there are pending block transactions
+     */
+    public boolean hasBlockTransactions() {
+        return this.transactor != null && !this.transactor.isEmpty();
+    }
+
     public boolean hasCaptures() {
         if (this.transactor != null && !this.transactor.isEmpty()) {
             return true;
@@ -400,7 +415,10 @@ public void close() { // Should never throw an exception
         if (!this.shouldProvideModifiers()) {
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(instance::popCauseFrame);
+                this.usedFrame.clear();
+                this.usedFrame = null;
             }
+            this.release();
             return;
         }
         if (this.usedFrame == null) {
@@ -414,6 +432,11 @@ public void close() { // Should never throw an exception
             this.usedFrame.clear();
             this.usedFrame = null;
         }
+        this.release();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void release() {
         this.reset();
         this.isCompleted = false;
         if (this.state instanceof PooledPhaseState) {
@@ -426,6 +449,10 @@ protected void reset() {
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.allowsBlockEvents = true;
+        this.allowsEntityEvents = true;
+        this.allowsBulkBlockCaptures = true;
+        this.allowsBulkEntityCaptures = true;
         if (this.transactor != null) {
             this.transactor.reset();
         }
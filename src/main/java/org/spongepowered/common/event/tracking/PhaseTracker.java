@@ -97,6 +97,8 @@ public final class PhaseTracker implements CauseStackManager {
     private static final String MAX_POOL_SIZE_PROPERTY = "sponge.cause.maxFramePoolSize";
     private static final int INITIAL_POOL_SIZE;
     private static final int MAX_POOL_SIZE;
+    private static final String MAX_CONTEXT_POOL_SIZE_PROPERTY = "sponge.tracker.maxContextPoolSize";
+    static final int MAX_CONTEXT_POOL_SIZE;
 
     public static PhaseTracker getInstance() {
         final Thread current = Thread.currentThread();
@@ -198,7 +200,16 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
                 PhaseTracker.MAX_POOL_SIZE_PROPERTY,
                 System.getProperty(PhaseTracker.MAX_POOL_SIZE_PROPERTY));
         }
+        int maxContextPoolSize = 64;
+        try {
+            maxContextPoolSize = Integer.parseInt(System.getProperty(PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY, "64"));
+        } catch (final NumberFormatException ex) {
+            SpongeCommon.getLogger().warn("{} must be an integer, was set to {}. Defaulting to 64.",
+                PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY,
+                System.getProperty(PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY));
+        }
         MAX_POOL_SIZE = Math.max(0, maxPoolSize);
+        MAX_CONTEXT_POOL_SIZE = Math.max(0, maxContextPoolSize);
         INITIAL_POOL_SIZE = Math.max(0, Math.min(PhaseTracker.MAX_POOL_SIZE, initialPoolSize));
     }
 
@@ -454,11 +465,60 @@ public void ensureEmpty() {
     }
 
     private final IdentityHashMap<IPhaseState<?>, ArrayDeque<? extends PhaseContext<?>>> stateContextPool = new IdentityHashMap<>();
+    // Only ever touched from the sided thread, plain fields are enough here
+    private long pooledContexts;
+    private long freshContexts;
 
     public <C extends PhaseContext<C>> ArrayDeque<C> getContextPoolFor(final PooledPhaseState<? extends C> state) {
         return (ArrayDeque<C>) this.stateContextPool.computeIfAbsent(state, (newState) -> new ArrayDeque<>());
     }
 
+    void onPooledContext() {
+        this.pooledContexts++;
+    }
+
+    void onFreshContext() {
+        this.freshContexts++;
+    }
+
+    /**
+     * Gets the number of {@link PhaseContext}s that were reused from a state's pool.
+     *
+     * @return The pooled context count
+     */
+    public long getPooledContextCount() {
+        return this.pooledContexts;
+    }
+
+    /**
+     * Gets the number of {@link PhaseContext}s that had to be freshly allocated
+     * because their state had no released context available.
+     *
+     * @return The fresh context count
+     */
+    public long getFreshContextCount() {
+        return this.freshContexts;
+    }
+
+    /**
+     * Gets the number of released {@link PhaseContext}s currently waiting in the
+     * per state pools, excluding the single context each state keeps cached.
+     *
+     * @return The idle pool size
+     */
+    public int getIdleContextCount() {
+        int idle = 0;
+        for (final ArrayDeque<? extends PhaseContext<?>> pool : this.stateContextPool.values()) {
+            idle += pool.size();
+        }
+        return idle;
+    }
+
+    public void resetContextCounters() {
+        this.pooledContexts = 0;
+        this.freshContexts = 0;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
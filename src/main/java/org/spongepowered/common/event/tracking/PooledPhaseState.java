@@ -26,6 +26,8 @@
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayDeque;
+
 public abstract class PooledPhaseState<C extends PhaseContext<C>> implements IPhaseState<C> {
 
     // @formatter: off
@@ -42,35 +44,29 @@ public final C createPhaseContext(final PhaseTracker tracker) {
             throw new IllegalStateException("Asynchronous Thread Access to PhaseTracker: " + tracker);
         }
 
+        // The cached context is only handed out once, it is put back in place when released
         if (tracker == PhaseTracker.SERVER) {
             if (this.serverCached != null && !this.serverCached.isCompleted) {
                 final C cached = this.serverCached;
                 this.serverCached = null;
+                tracker.onPooledContext();
                 return cached;
             }
         } else if (tracker == PhaseTracker.CLIENT) {
             if (this.clientCached != null && !this.clientCached.isCompleted) {
                 final C cached = this.clientCached;
                 this.clientCached = null;
+                tracker.onPooledContext();
                 return cached;
             }
         }
         final C peek = tracker.getContextPoolFor(this).pollFirst();
         if (peek != null) {
-            if (tracker == PhaseTracker.SERVER) {
-                this.serverCached = peek;
-            } else if (tracker == PhaseTracker.CLIENT) {
-                this.clientCached = peek;
-            }
+            tracker.onPooledContext();
             return peek;
         }
-        final C maybeCached = this.createNewContext(tracker);
-        if (tracker == PhaseTracker.SERVER) {
-            this.serverCached = maybeCached;
-        } else if (tracker == PhaseTracker.CLIENT) {
-            this.clientCached = maybeCached;
-        }
-        return maybeCached;
+        tracker.onFreshContext();
+        return this.createNewContext(tracker);
     }
 
     final void releaseContextFromPool(final C context) {
@@ -96,8 +92,10 @@ final void releaseContextFromPool(final C context) {
                 return;
             }
         }
-        createdTracker.getContextPoolFor(this).push(context);
-
+        final ArrayDeque<C> pool = createdTracker.getContextPoolFor(this);
+        if (pool.size() < PhaseTracker.MAX_CONTEXT_POOL_SIZE) {
+            pool.push(context);
+        }
     }
 
     protected abstract C createNewContext(PhaseTracker tracker);
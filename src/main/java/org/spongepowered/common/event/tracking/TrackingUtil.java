@@ -49,6 +49,7 @@
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.bridge.TimingBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.block.TrackerBlockEventDataBridge;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
@@ -56,6 +57,7 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.activation.EntityActivationRange;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
@@ -122,6 +124,10 @@ public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity>
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (!EntityActivationRange.checkIfActive(entity)) {
+            ((ActivationCapabilityBridge) entity).activation$inactiveTick();
+            return;
+        }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (final EntityTickContext context = tickContext;
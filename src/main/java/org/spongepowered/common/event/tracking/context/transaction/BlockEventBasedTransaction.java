@@ -26,8 +26,6 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.ListMultimap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -49,7 +47,9 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.state.BlockState;
@@ -76,50 +76,44 @@ public final Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@No
         if (!o.isPresent()) {
             return Optional.empty();
         }
-        final ListMultimap<BlockPos, SpongeBlockSnapshot> positions = LinkedListMultimap.create();
+        // Keyed by position in insertion order, each list holds the original snapshot
+        // followed by every resulting snapshot recorded for that position
+        final Map<BlockPos, List<SpongeBlockSnapshot>> positions = new LinkedHashMap<>(transactions.size() * 2);
         for (final GameTransaction<@NonNull ?> transaction : transactions) {
             final BlockEventBasedTransaction blockTransaction = (BlockEventBasedTransaction) transaction;
-            if (!positions.containsKey(blockTransaction.affectedPosition)) {
-                positions.put(
-                    blockTransaction.affectedPosition,
-                    blockTransaction.getOriginalSnapshot()
-                );
+            List<SpongeBlockSnapshot> snapshots = positions.get(blockTransaction.affectedPosition);
+            if (snapshots == null) {
+                snapshots = new ArrayList<>(2);
+                snapshots.add(blockTransaction.getOriginalSnapshot());
+                positions.put(blockTransaction.affectedPosition, snapshots);
             }
-            if (blockTransaction.getResultingSnapshot() != null) {
-                positions.put(
-                        blockTransaction.affectedPosition,
-                        blockTransaction.getResultingSnapshot()
-                );
+            final @Nullable SpongeBlockSnapshot resulting = blockTransaction.getResultingSnapshot();
+            if (resulting != null) {
+                snapshots.add(resulting);
             }
         }
 
-        final ImmutableList<BlockTransaction> eventTransactions = positions.asMap().values()
-            .stream()
-            .map(spongeBlockSnapshots -> {
-                final List<SpongeBlockSnapshot> snapshots = new ArrayList<>(spongeBlockSnapshots);
-                if (snapshots.isEmpty() || snapshots.size() < 2) {
-                    // Error case
-                    return Optional.<BlockTransaction>empty();
-                }
-                final SpongeBlockSnapshot original = snapshots.get(0);
-                final SpongeBlockSnapshot result = snapshots.get(snapshots.size() - 1);
-                final ImmutableList<BlockSnapshot> intermediary;
-                if (snapshots.size() > 2) {
-                    intermediary = ImmutableList.copyOf(snapshots.subList(1, snapshots.size() - 2));
-                } else {
-                    intermediary = ImmutableList.of();
-                }
-                final Operation operation = context.getBlockOperation(original, original.blockChange);
-                final BlockTransaction eventTransaction = new BlockTransaction(original, result, intermediary, operation);
-                return Optional.of(eventTransaction);
-            })
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(ImmutableList.toImmutableList());
+        final ImmutableList.Builder<BlockTransaction> eventTransactions = ImmutableList.builder();
+        for (final List<SpongeBlockSnapshot> snapshots : positions.values()) {
+            if (snapshots.size() < 2) {
+                // Error case
+                continue;
+            }
+            final SpongeBlockSnapshot original = snapshots.get(0);
+            final SpongeBlockSnapshot result = snapshots.get(snapshots.size() - 1);
+            final ImmutableList<BlockSnapshot> intermediary;
+            if (snapshots.size() > 2) {
+                intermediary = ImmutableList.copyOf(snapshots.subList(1, snapshots.size() - 2));
+            } else {
+                intermediary = ImmutableList.of();
+            }
+            final Operation operation = context.getBlockOperation(original, original.blockChange);
+            eventTransactions.add(new BlockTransaction(original, result, intermediary, operation));
+        }
 
         return Optional.of(SpongeEventFactory.createChangeBlockEventAll(
             currentCause,
-            eventTransactions,
+            eventTransactions.build(),
             o.get()
         ));
     }
@@ -60,6 +60,8 @@ public final class ChangeBlock extends BlockEventBasedTransaction {
     final SpongeBlockChangeFlag blockChangeFlag;
     @Nullable public BlockEntity queuedRemoval;
     @Nullable public BlockEntity queuedAdd;
+    // Only built once an event actually asks for it
+    @Nullable private SpongeBlockSnapshot resultingSnapshot;
 
     ChangeBlock(final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
         final SpongeBlockChangeFlag blockChange
@@ -151,6 +153,9 @@ public void addToPrinter(final PrettyPrinter printer) {
 
     @Override
     protected SpongeBlockSnapshot getResultingSnapshot() {
+        if (this.resultingSnapshot != null) {
+            return this.resultingSnapshot;
+        }
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled()
                 .position(this.original.getPosition())
                 .blockState((org.spongepowered.api.block.BlockState) this.newState);
@@ -159,7 +164,8 @@ protected SpongeBlockSnapshot getResultingSnapshot() {
         } else {
             builder.world(this.original.getWorld());
         }
-        return builder.build();
+        this.resultingSnapshot = builder.build();
+        return this.resultingSnapshot;
     }
 
     @Override
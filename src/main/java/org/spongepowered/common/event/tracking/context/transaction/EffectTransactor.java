@@ -50,10 +50,9 @@ public class EffectTransactor implements AutoCloseable {
     public void close() {
         if (this.effect.head == null
             && this.parent != null
-            && this.parent.sideEffects != null
-            && this.parent.getEffects().peekLast() == this.effect
+            && this.parent.peekLastEffect() == this.effect
         ) {
-            this.parent.getEffects().removeLast();
+            this.parent.removeLastEffect();
         }
         this.supplier.popEffect(this);
     }
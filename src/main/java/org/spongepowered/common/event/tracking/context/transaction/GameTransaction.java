@@ -38,8 +38,7 @@
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 import org.spongepowered.common.util.PrettyPrinter;
 
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
@@ -53,8 +52,10 @@
     protected final ResourceKey worldKey;
     boolean cancelled = false;
 
-    // Children Definitions
-    @Nullable LinkedList<ResultingTransactionBySideEffect> sideEffects;
+    // Children Definitions - a plain growable array, most transactions only ever
+    // record one or two side effects and a LinkedList costs a node per effect
+    @Nullable ResultingTransactionBySideEffect[] sideEffects;
+    int sideEffectCount;
 
     // LinkedList node definitions
     @Nullable GameTransaction<@NonNull ?> previous;
@@ -76,23 +77,46 @@ public TransactionType<? extends E> getTransactionType() {
     }
 
 
-    Deque<ResultingTransactionBySideEffect> getEffects() {
+    void addEffect(final ResultingTransactionBySideEffect effect) {
         if (this.sideEffects == null) {
-            this.sideEffects = new LinkedList<>();
+            this.sideEffects = new ResultingTransactionBySideEffect[2];
+        } else if (this.sideEffectCount == this.sideEffects.length) {
+            this.sideEffects = Arrays.copyOf(this.sideEffects, this.sideEffectCount << 1);
+        }
+        this.sideEffects[this.sideEffectCount++] = effect;
+    }
+
+    @Nullable ResultingTransactionBySideEffect peekLastEffect() {
+        if (this.sideEffects == null || this.sideEffectCount == 0) {
+            return null;
+        }
+        return this.sideEffects[this.sideEffectCount - 1];
+    }
+
+    void removeLastEffect() {
+        if (this.sideEffects != null && this.sideEffectCount > 0) {
+            this.sideEffects[--this.sideEffectCount] = null;
         }
-        return this.sideEffects;
     }
 
     public final boolean hasChildTransactions() {
-        return this.sideEffects != null && this.sideEffects.stream().anyMatch(effect -> effect.head != null);
+        if (this.sideEffects == null) {
+            return false;
+        }
+        for (int i = 0; i < this.sideEffectCount; i++) {
+            if (this.sideEffects[i].head != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public final boolean hasAnyPrimaryChildrenTransactions() {
         if (this.sideEffects == null) {
             return false;
         }
-        for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
-            @Nullable GameTransaction<@NonNull ?> transaction = sideEffect.head;
+        for (int i = 0; i < this.sideEffectCount; i++) {
+            @Nullable GameTransaction<@NonNull ?> transaction = this.sideEffects[i].head;
             while (transaction != null) {
                 if (transaction.transactionType.isPrimary() || transaction.hasChildTransactions()) {
                     return true;
@@ -142,7 +166,8 @@ public abstract Optional<E> generateEvent(
     public void markCancelled() {
         this.cancelled = true;
         if (this.sideEffects != null) {
-            for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
+            for (int i = 0; i < this.sideEffectCount; i++) {
+                final ResultingTransactionBySideEffect sideEffect = this.sideEffects[i];
                 if (sideEffect.head != null) {
                     @Nullable GameTransaction<@NonNull ?> node = sideEffect.head;
                     while (node != null) {
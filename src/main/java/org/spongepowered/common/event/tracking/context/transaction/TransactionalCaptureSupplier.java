@@ -120,7 +120,7 @@ public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect
             .orElse(Objects.requireNonNull(this.tail));
         final EffectTransactor effectTransactor = new EffectTransactor(effect, parentTransaction, this.effect, this);
         this.effect = effect;
-        parentTransaction.getEffects().addLast(effect);
+        parentTransaction.addEffect(effect);
         return effectTransactor;
     }
 
@@ -513,7 +513,8 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
                 if (transaction.sideEffects == null) {
                     continue;
                 }
-                for (final ResultingTransactionBySideEffect sideEffect : transaction.sideEffects) {
+                for (int i = 0; i < transaction.sideEffectCount; i++) {
+                    final ResultingTransactionBySideEffect sideEffect = transaction.sideEffects[i];
                     if (sideEffect.head == null) {
                         continue;
                     }
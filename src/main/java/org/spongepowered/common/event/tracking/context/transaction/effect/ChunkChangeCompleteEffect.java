@@ -26,6 +26,7 @@
 
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -48,6 +49,10 @@ public EffectResult processSideEffect(final BlockPipeline pipeline, final Pipeli
     ) {
 
         final LevelChunk chunk = pipeline.getAffectedChunk();
+        if (oldState.state.getBlock() != newState.getBlock()) {
+            // The creator and notifier belonged to the block that was broken or replaced
+            ((ChunkBridge) chunk).bridge$removeTrackedBlockPosition(oldState.pos);
+        }
         chunk.markUnsaved();
         return new EffectResult(oldState.state, true);
     }
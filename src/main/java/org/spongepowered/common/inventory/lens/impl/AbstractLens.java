@@ -34,6 +34,7 @@
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.inventory.property.KeyValuePair;
+import org.spongepowered.common.inventory.query.QueryResultCache;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -59,6 +60,8 @@ public abstract class AbstractLens implements Lens {
 
     private int maxOrdinal = 0;
 
+    @Nullable private volatile QueryResultCache queryCache;
+
     public AbstractLens(final int base, final int size) {
         checkArgument(base >= 0, "Invalid offset: %s", base);
         checkArgument(size > 0, "Invalid size: %s", size);
@@ -110,6 +113,20 @@ public Lens getParent() {
         return this.parent;
     }
 
+    public QueryResultCache getQueryCache() {
+        QueryResultCache queryCache = this.queryCache;
+        if (queryCache == null) {
+            synchronized (this) {
+                queryCache = this.queryCache;
+                if (queryCache == null) {
+                    queryCache = new QueryResultCache(this);
+                    this.queryCache = queryCache;
+                }
+            }
+        }
+        return queryCache;
+    }
+
     @Override
     public Class<? extends Inventory> getAdapterType() {
         return this.adapterType;
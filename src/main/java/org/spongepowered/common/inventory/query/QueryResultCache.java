@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import org.spongepowered.api.item.inventory.query.Query;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result lenses of queries executed against a lens. Lenses don't
+ * hold any inventory state, so a cached result lens only has to be bound to
+ * the {@link org.spongepowered.common.inventory.fabric.Fabric} of the queried
+ * inventory to be reused.
+ *
+ * <p>Only the results of structural queries are cached, see
+ * {@link SpongeDepthQuery#isStructural()}. Queries which only match slots
+ * reuse the slot lenses found below this lens instead, see
+ * {@link SpongeDepthQuery#matchesSlotsOnly()}.</p>
+ */
+public final class QueryResultCache {
+
+    private final Lens lens;
+    private final Map<Query, Optional<Lens>> results = new ConcurrentHashMap<>();
+    private final Map<Integer, DelegatingLens> delegates = new ConcurrentHashMap<>();
+    @Nullable private volatile List<SlotCandidate> slots;
+
+    public QueryResultCache(final Lens lens) {
+        this.lens = lens;
+    }
+
+    /**
+     * Gets the result lens of the query, searching for it if the query
+     * wasn't executed against this lens before.
+     *
+     * @param query The query
+     * @param search The search for the result lens
+     * @return The result lens, or null if the query has no results
+     */
+    @Nullable
+    public Lens getResult(final Query query, final Supplier<Lens> search) {
+        return this.results.computeIfAbsent(query, q -> Optional.ofNullable(search.get())).orElse(null);
+    }
+
+    /**
+     * Gets the slot lenses below this lens, in the order a depth first
+     * search visits them, collecting them if they weren't before.
+     *
+     * @param collect The collection of the slot lenses
+     * @return The slot lenses
+     */
+    public List<SlotCandidate> getSlots(final Supplier<List<SlotCandidate>> collect) {
+        List<SlotCandidate> slots = this.slots;
+        if (slots == null) {
+            // Racing threads collect equal lists, either of them may be kept
+            slots = collect.get();
+            this.slots = slots;
+        }
+        return slots;
+    }
+
+    /**
+     * Gets the lens which delegates to this lens at the given offset.
+     *
+     * @param base The offset
+     * @return The delegating lens
+     */
+    public DelegatingLens getDelegate(final int base) {
+        return this.delegates.computeIfAbsent(base, b -> new DelegatingLens(b, this.lens,
+                new LensRegistrar.BasicSlotLensProvider(this.lens.slotCount())));
+    }
+
+    /**
+     * A slot lens below a lens, with the lens it was found in and the offset
+     * of the delegating lenses on the way to it.
+     */
+    public static final class SlotCandidate {
+
+        final Lens slot;
+        final Lens parent;
+        final int offset;
+
+        SlotCandidate(final Lens slot, final Lens parent, final int offset) {
+            this.slot = slot;
+            this.parent = parent;
+            this.offset = offset;
+        }
+    }
+}
@@ -25,12 +25,18 @@
 package org.spongepowered.common.inventory.query;
 
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.slots.SlotLens;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,15 +47,92 @@ public abstract class SpongeDepthQuery extends SpongeQuery {
 
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Gets whether the result of this query only depends on the lens tree
+     * it is executed against, and not on the contents of the inventory.
+     * Results of structural queries are cached per root lens, so they have
+     * to implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     *
+     * @return Whether this query is structural
+     */
+    public boolean isStructural() {
+        return false;
+    }
+
+    /**
+     * Gets whether this query can only match {@link SlotLens}es. The slot
+     * lenses of a lens tree are collected once per root lens, so these
+     * queries only have to test the slots instead of searching the whole
+     * tree every time.
+     *
+     * @return Whether this query only matches slots
+     */
+    public boolean matchesSlotsOnly() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
 
+        final Lens result;
+        if (this.isStructural() && lens instanceof AbstractLens) {
+            result = ((AbstractLens) lens).getQueryCache().getResult(this, () -> this.search(inventory, fabric, lens));
+        } else if (this.matchesSlotsOnly() && lens instanceof AbstractLens) {
+            result = this.searchSlots(inventory, fabric, lens,
+                    ((AbstractLens) lens).getQueryCache().getSlots(() -> SpongeDepthQuery.collectSlots(lens)));
+        } else {
+            result = this.search(inventory, fabric, lens);
+        }
+        if (result == null) {
+            return new EmptyInventoryImpl(inventory);
+        }
+        return result.getAdapter(fabric, inventory);
+    }
+
+    @Nullable
+    private Lens search(Inventory inventory, Fabric fabric, Lens lens) {
         if (this.matches(lens, null, inventory)) {
-            return lens.getAdapter(fabric, inventory);
+            return lens;
         }
+        return this.toResultLens(this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+    }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+    @Nullable
+    private Lens searchSlots(Inventory inventory, Fabric fabric, Lens lens, List<QueryResultCache.SlotCandidate> slots) {
+        if (this.matches(lens, null, inventory)) {
+            return lens;
+        }
+        // Same matches as the depth first search, as only slots can match
+        final Map<Lens, Integer> matches = new LinkedHashMap<>();
+        for (final QueryResultCache.SlotCandidate candidate : slots) {
+            if (this.matches(candidate.slot, candidate.parent, inventory)) {
+                matches.put(candidate.slot, candidate.offset);
+            }
+        }
+        return this.toResultLens(this.reduce(fabric, lens, matches));
+    }
+
+    private static List<QueryResultCache.SlotCandidate> collectSlots(Lens lens) {
+        final List<QueryResultCache.SlotCandidate> slots = new ArrayList<>();
+        SpongeDepthQuery.collectSlots(lens, 0, slots);
+        return slots;
+    }
+
+    private static void collectSlots(Lens lens, int offset, List<QueryResultCache.SlotCandidate> slots) {
+        // The offsets of the delegating lenses add up the same way as in depthFirstSearch
+        final int base = lens.base() != 0 && lens instanceof DelegatingLens ? offset + lens.base() : offset;
+        for (Lens child : lens.getChildren()) {
+            if (child == null) {
+                continue;
+            }
+            if (!child.getChildren().isEmpty()) {
+                SpongeDepthQuery.collectSlots(child, base, slots);
+            }
+            if (child instanceof SlotLens) {
+                slots.add(new QueryResultCache.SlotCandidate(child, lens, base));
+            }
+        }
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
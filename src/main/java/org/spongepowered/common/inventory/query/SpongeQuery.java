@@ -32,11 +32,13 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.QueryLens;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -106,22 +108,32 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
     }
 
     protected Inventory toResult(Inventory inventory, Fabric fabric, Map<Lens, Integer> matches) {
-        if (matches.isEmpty()) {
+        final Lens lens = this.toResultLens(matches);
+        if (lens == null) {
             return new EmptyInventoryImpl(inventory);
         }
+        return lens.getAdapter(fabric, inventory);
+    }
+
+    @Nullable
+    protected Lens toResultLens(Map<Lens, Integer> matches) {
+        if (matches.isEmpty()) {
+            return null;
+        }
         if (matches.size() == 1) {
             final Map.Entry<Lens, Integer> entry = matches.entrySet().iterator().next();
             if (entry.getValue() == 0) {
-                return entry.getKey().getAdapter(fabric, inventory);
+                return entry.getKey();
             }
-            final LensRegistrar.BasicSlotLensProvider slotProvider = new LensRegistrar.BasicSlotLensProvider(entry.getKey().slotCount());
             // TODO check correct slotprovider
-            final DelegatingLens delegate = new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
-            return delegate.getAdapter(fabric, inventory);
+            if (entry.getKey() instanceof AbstractLens) {
+                return ((AbstractLens) entry.getKey()).getQueryCache().getDelegate(entry.getValue());
+            }
+            final LensRegistrar.BasicSlotLensProvider slotProvider = new LensRegistrar.BasicSlotLensProvider(entry.getKey().slotCount());
+            return new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
         }
 
-        final QueryLens lens = new QueryLens(matches, this);
-        return lens.getAdapter(fabric, inventory);
+        return new QueryLens(matches, this);
     }
 }
 
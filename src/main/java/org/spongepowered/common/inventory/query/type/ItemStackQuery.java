@@ -41,6 +41,11 @@ protected ItemStackQuery(T arg) {
         this.arg = arg;
     }
 
+    @Override
+    public boolean matchesSlotsOnly() {
+        return true;
+    }
+
     @Override
     public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         if (lens instanceof SlotLens) {
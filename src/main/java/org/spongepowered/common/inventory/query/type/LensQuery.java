@@ -28,6 +28,10 @@
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.query.SpongeDepthQuery;
 
+/**
+ * Not {@link #isStructural() structural}, as these queries are mostly built
+ * around short lived lenses which would pile up in the result caches.
+ */
 public final class LensQuery extends SpongeDepthQuery {
 
     private final Lens lens;
@@ -41,4 +45,20 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return this.lens.equals(lens);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.lens.equals(((LensQuery) o).lens);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.lens.hashCode();
+    }
+
 }
@@ -41,4 +41,25 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return this.targetType.isAssignableFrom(lens.getAdapterType());
     }
 
+    @Override
+    public boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.targetType.equals(((TypeQuery) o).targetType);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.targetType.hashCode();
+    }
+
 }
@@ -51,6 +51,18 @@ public static TransactionStore getTransactionStore(final EngineConnection connec
         return ((NetworkManagerBridge) networkManager).bridge$getTransactionStore();
     }
 
+    /**
+     * Gets whether the connection is an in memory connection, as used by
+     * singleplayer, where packets are handed to the other side as is instead
+     * of being encoded.
+     *
+     * @param connection The connection
+     * @return Whether it's a memory connection
+     */
+    public static boolean isMemoryConnection(final EngineConnection connection) {
+        return ((NetworkManagerHolderBridge) connection).bridge$getConnection().isMemoryConnection();
+    }
+
     public static void checkHandshakePhase(final EngineConnection connection) {
         if (!ConnectionUtil.isLoginPhase(connection)) {
             throw new IllegalStateException("This dispatcher may only be used for connections in the handshake phase.");
@@ -30,29 +30,67 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionSide;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundCustomPayloadPacketAccessor;
+import org.spongepowered.common.applaunch.config.common.NetworkCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.network.NetworkManagerBridge;
 import org.spongepowered.common.bridge.network.NetworkManagerHolderBridge;
 
+import java.util.Iterator;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundCustomPayloadPacket;
 import net.minecraft.util.thread.BlockableEventLoop;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class PacketSender {
 
+    /**
+     * The connections which have packets that were written but not yet flushed.
+     */
+    private static final Set<NetworkManagerBridge> PENDING_FLUSH = ConcurrentHashMap.newKeySet();
+
     public static void sendTo(final EngineConnection connection, final Packet<?> packet) {
         PacketSender.sendTo(connection, packet, (Consumer) null);
     }
 
+    public static void sendTo(final EngineConnection connection, final Packet<?> packet, final @Nullable Runnable completion) {
+        PacketSender.sendTo(connection, packet, (Consumer) null, completion);
+    }
+
     public static void sendTo(final EngineConnection connection, final Packet<?> packet,
             final @Nullable Consumer<Future<? super Void>> listener) {
+        PacketSender.sendTo(connection, packet, listener, null);
+    }
+
+    /**
+     * Sends the packet to the connection.
+     *
+     * @param connection The connection
+     * @param packet The packet
+     * @param listener The listener to call on the main thread once sent
+     * @param completion The action to run on the network thread as soon as the
+     *     send completes, successful or not, used to release payloads
+     */
+    public static void sendTo(final EngineConnection connection, final Packet<?> packet,
+            final @Nullable Consumer<Future<? super Void>> listener, final @Nullable Runnable completion) {
         final Connection networkManager = ((NetworkManagerHolderBridge) connection).bridge$getConnection();
         GenericFutureListener<? extends Future<? super Void>> asyncListener = null;
-        if (listener != null) {
+        if (listener == null) {
+            if (completion != null) {
+                asyncListener = future -> completion.run();
+            }
+        } else {
             final EngineConnectionSide<?> side = connection.getSide();
             // Complete the netty callback on the sync thread
             asyncListener = future -> {
+                if (completion != null) {
+                    completion.run();
+                }
                 final BlockableEventLoop<?> executor;
                 if (side == EngineConnectionSide.CLIENT) {
                     executor = (BlockableEventLoop<?>) Sponge.getClient();
@@ -62,17 +100,56 @@ public static void sendTo(final EngineConnection connection, final Packet<?> pac
                 executor.execute(() -> listener.accept(future));
             };
         }
-        networkManager.send(packet, asyncListener);
+        if (!PacketSender.writeCoalesced(connection, networkManager, packet, asyncListener)) {
+            networkManager.send(packet, asyncListener);
+        }
+    }
+
+    private static boolean writeCoalesced(final EngineConnection connection, final Connection networkManager, final Packet<?> packet,
+            final @Nullable GenericFutureListener<? extends Future<? super Void>> listener) {
+        if (!(packet instanceof ClientboundCustomPayloadPacket) || connection.getSide() != EngineConnectionSide.SERVER
+                || networkManager.isMemoryConnection() || ConnectionUtil.isLoginPhase(connection)) {
+            return false;
+        }
+        final NetworkCategory config = SpongeConfigs.getCommon().get().network;
+        if (!config.coalesceChannelPackets) {
+            return false;
+        }
+        final int size = ((ClientboundCustomPayloadPacketAccessor) packet).accessor$data().readableBytes();
+        final NetworkManagerBridge bridge = (NetworkManagerBridge) networkManager;
+        if (!bridge.bridge$writeWithoutFlush(packet, listener, size, config.coalesceMaxBytes)) {
+            return false;
+        }
+        PacketSender.PENDING_FLUSH.add(bridge);
+        return true;
+    }
+
+    /**
+     * Flushes all the connections that have coalesced packets pending, called
+     * at the end of every server tick.
+     */
+    public static void flushPending() {
+        final Iterator<NetworkManagerBridge> it = PacketSender.PENDING_FLUSH.iterator();
+        while (it.hasNext()) {
+            final NetworkManagerBridge bridge = it.next();
+            it.remove();
+            bridge.bridge$flush();
+        }
     }
 
     public static void sendTo(final EngineConnection connection, final Packet<?> packet, final CompletableFuture<Void> future) {
+        PacketSender.sendTo(connection, packet, future, null);
+    }
+
+    public static void sendTo(final EngineConnection connection, final Packet<?> packet, final CompletableFuture<Void> future,
+            final @Nullable Runnable completion) {
         PacketSender.sendTo(connection, packet, sendFuture -> {
             if (sendFuture.isSuccess()) {
                 future.complete(null);
             } else {
                 future.completeExceptionally(sendFuture.cause());
             }
-        });
+        }, completion);
     }
 
     private PacketSender() {
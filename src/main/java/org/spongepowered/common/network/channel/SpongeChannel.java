@@ -49,6 +49,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 @SuppressWarnings("unchecked")
 public abstract class SpongeChannel implements Channel {
@@ -57,6 +58,12 @@ public abstract class SpongeChannel implements Channel {
     private final SpongeChannelRegistry registry;
     private final Logger logger;
     private final int type;
+    private final LongAdder allocatedPayloads = new LongAdder();
+    private final LongAdder releasedPayloads = new LongAdder();
+    private final LongAdder pendingTransactions = new LongAdder();
+    private final LongAdder completedTransactions = new LongAdder();
+    private final LongAdder timedOutTransactions = new LongAdder();
+    private final LongAdder transactionTime = new LongAdder();
 
     private volatile ChannelExceptionHandler<EngineConnection> exceptionHandler =
             ChannelExceptionHandler.logEverything().suppress(ChannelNotSupportedException.class);
@@ -99,6 +106,110 @@ public String toString() {
                 .toString();
     }
 
+    /**
+     * Allocates a buffer for an outgoing payload of this channel. The payload
+     * has to be given back through {@link #releasePayload(EngineConnection, ChannelBuf)}
+     * once sent, or {@link #discardPayload(ChannelBuf)} if it's never sent.
+     *
+     * @return The payload buffer
+     */
+    public ChannelBuf allocatePayload() {
+        this.allocatedPayloads.increment();
+        return this.registry.getBufferAllocator().buffer();
+    }
+
+    /**
+     * Releases a payload once it was sent to the given connection. Memory
+     * connections hand the payload to the other side as is, so it's only
+     * accounted for and left to the receiving end.
+     *
+     * @param connection The connection the payload was sent to
+     * @param payload The payload
+     */
+    public void releasePayload(final EngineConnection connection, final ChannelBuf payload) {
+        this.releasedPayloads.increment();
+        if (!ConnectionUtil.isMemoryConnection(connection)) {
+            ChannelBuffers.release(payload);
+        }
+    }
+
+    /**
+     * Releases a payload that was never handed to a connection.
+     *
+     * @param payload The payload
+     */
+    public void discardPayload(final ChannelBuf payload) {
+        this.releasedPayloads.increment();
+        ChannelBuffers.release(payload);
+    }
+
+    public long getAllocatedPayloadCount() {
+        return this.allocatedPayloads.sum();
+    }
+
+    public long getReleasedPayloadCount() {
+        return this.releasedPayloads.sum();
+    }
+
+    /**
+     * Gets the number of payloads that were allocated but not released yet.
+     * This includes the payloads that are still being sent, a number that
+     * keeps growing points at leaked payloads.
+     *
+     * @return The number of outstanding payloads
+     */
+    public long getOutstandingPayloadCount() {
+        return this.allocatedPayloads.sum() - this.releasedPayloads.sum();
+    }
+
+    void onTransactionStarted() {
+        this.pendingTransactions.increment();
+    }
+
+    void onTransactionCompleted(final long nanos) {
+        this.pendingTransactions.decrement();
+        this.completedTransactions.increment();
+        this.transactionTime.add(nanos);
+    }
+
+    void onTransactionFailed() {
+        this.pendingTransactions.decrement();
+    }
+
+    void onTransactionTimedOut() {
+        this.pendingTransactions.decrement();
+        this.timedOutTransactions.increment();
+    }
+
+    /**
+     * Gets the number of requests of this channel that are still waiting
+     * for a response, across all the connections.
+     *
+     * @return The number of pending transactions
+     */
+    public long getPendingTransactionCount() {
+        return this.pendingTransactions.sum();
+    }
+
+    public long getCompletedTransactionCount() {
+        return this.completedTransactions.sum();
+    }
+
+    public long getTimedOutTransactionCount() {
+        return this.timedOutTransactions.sum();
+    }
+
+    /**
+     * Gets the average time, in milliseconds, between sending a request of
+     * this channel and receiving its response.
+     *
+     * @return The average round trip time, or {@code 0} if no transaction completed yet
+     */
+    public double getAverageTransactionTime() {
+        final long completed = this.completedTransactions.sum();
+        return completed == 0 ? 0 : this.transactionTime.sum() / (double) completed / 1_000_000.0;
+    }
+
     public boolean checkSupported(final EngineConnection connection, final CompletableFuture<?> future) {
         if (!ConnectionUtil.getRegisteredChannels(connection).contains(this.getKey())) {
             this.handleException(connection, new ChannelNotSupportedException("The channel \"" + this.getKey() + "\" isn't supported."), future);
@@ -35,6 +35,7 @@
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.channel.Channel;
 import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.api.network.channel.ChannelException;
 import org.spongepowered.api.network.channel.ChannelRegistry;
 import org.spongepowered.api.network.channel.NoResponseException;
 import org.spongepowered.api.network.channel.packet.PacketChannel;
@@ -143,22 +144,32 @@ public Collection<Channel> getChannels() {
         return ImmutableList.copyOf(this.channels.values());
     }
 
-    private static final class ChannelRegistrySyncFuture {
+    private static final class ChannelRegistrySyncFuture implements TransactionStore.FailureAware {
 
         private final CompletableFuture<Void> future;
 
         private ChannelRegistrySyncFuture(final CompletableFuture<Void> future) {
             this.future = future;
         }
+
+        @Override
+        public void onFailure(final ChannelException exception) {
+            this.future.completeExceptionally(exception);
+        }
     }
 
-    private static final class ClientTypeSyncFuture {
+    private static final class ClientTypeSyncFuture implements TransactionStore.FailureAware {
 
         private final CompletableFuture<Void> future;
 
         private ClientTypeSyncFuture(final CompletableFuture<Void> future) {
             this.future = future;
         }
+
+        @Override
+        public void onFailure(final ChannelException exception) {
+            this.future.completeExceptionally(exception);
+        }
     }
 
     public void postRegistryEvent() {
@@ -24,53 +24,77 @@
  */
 package org.spongepowered.common.network.channel;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.EngineConnection;
+import org.spongepowered.api.network.channel.ChannelException;
 import org.spongepowered.api.network.channel.TimeoutException;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.Constants;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
- * A storage for transaction id mappings.
+ * A storage for transaction id mappings. Transactions that don't get a
+ * response within the configured timeout are completed with a
+ * {@link TimeoutException} by a timer shared between all the stores.
+ * Transactions that are replaced by a new one with the same id are
+ * completed with a {@link ChannelException}.
  */
 public final class TransactionStore {
 
+    private static final Timer TIMEOUT_TIMER = new HashedWheelTimer(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sponge-TransactionTimeout-%d").build(),
+            100, TimeUnit.MILLISECONDS);
+
     private final Supplier<EngineConnection> connection;
 
     private final AtomicInteger counter = new AtomicInteger();
-    private final ConcurrentMap<Integer, Entry> lookup = Caffeine.newBuilder()
-            .expireAfterAccess(15, TimeUnit.SECONDS)
-            .removalListener((RemovalListener<Integer, Entry>) (key, value, cause) -> {
-                if (cause == RemovalCause.EXPIRED && value != null) {
-                    value.getChannel().handleTransactionResponse(
-                        this.getConnection(), value.getData(), TransactionResult.failure(new TimeoutException()));
-                }
-            })
-            .build().asMap();
+    private final ConcurrentMap<Integer, Entry> lookup = new ConcurrentHashMap<>();
+
+    /**
+     * Stored data that handles its own failure, used by the transactions
+     * that don't belong to a channel.
+     */
+    public interface FailureAware {
+
+        void onFailure(ChannelException exception);
+    }
 
     public static class Entry {
 
-        private final SpongeChannel channel;
+        private final @Nullable SpongeChannel channel;
         private final Object data;
+        private final long startTime = System.nanoTime();
+        private volatile @Nullable Timeout timeout;
 
-        public Entry(final SpongeChannel channel, final Object data) {
+        public Entry(final @Nullable SpongeChannel channel, final Object data) {
             this.channel = channel;
             this.data = data;
         }
 
-        public SpongeChannel getChannel() {
+        public @Nullable SpongeChannel getChannel() {
             return this.channel;
         }
 
         public Object getData() {
             return this.data;
         }
+
+        private void cancelTimeout() {
+            final Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
     }
 
     public TransactionStore(final Supplier<EngineConnection> connection) {
@@ -87,13 +111,18 @@ public EngineConnection getConnection() {
     }
 
     /**
-     * Gets the next available transaction id.
+     * Gets the next available transaction id. Ids wrap around once they
+     * overflow, skipping the reserved id and the ids that are still pending.
      *
      * @return The transaction id
      */
     public int nextId() {
         // TODO: Hook into forge to avoid id overlap
-        return this.counter.getAndIncrement();
+        int id;
+        do {
+            id = this.counter.getAndIncrement() & Integer.MAX_VALUE;
+        } while (id == Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID || this.lookup.containsKey(id));
+        return id;
     }
 
     /**
@@ -104,19 +133,49 @@ public int nextId() {
      * @param channel The channel
      * @param stored The stored data
      */
-    public void put(final int transactionId, final SpongeChannel channel, final Object stored) {
-        this.lookup.put(transactionId, new Entry(channel, stored));
+    public void put(final int transactionId, final @Nullable SpongeChannel channel, final Object stored) {
+        final Entry entry = new Entry(channel, stored);
+        if (channel != null) {
+            channel.onTransactionStarted();
+        }
+        final Entry previous = this.lookup.put(transactionId, entry);
+        if (previous != null) {
+            this.finish(previous, false);
+            this.fail(transactionId, previous, new ChannelException("The transaction id " + transactionId + " was reused before a response was received"));
+        }
+        final int timeout = SpongeConfigs.getCommon().get().network.transactionTimeout;
+        entry.timeout = TransactionStore.TIMEOUT_TIMER.newTimeout(t -> this.expire(transactionId, entry), timeout, TimeUnit.SECONDS);
     }
 
     /**
      * Gets the value that is assigned to the given
-     * {@code transactionId}, if it exists. The mapping will be removed.
+     * {@code transactionId}, if it exists. The mapping will be removed
+     * and the transaction is counted as completed, so this should only
+     * be used once the response was received.
      *
      * @param transactionId The transaction id
      * @return The stored value
      */
     public @Nullable Entry remove(final int transactionId) {
-        return this.lookup.remove(transactionId);
+        final Entry entry = this.lookup.remove(transactionId);
+        if (entry != null) {
+            this.finish(entry, true);
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the value that is assigned to the given {@code transactionId}
+     * without counting it as completed, used when the request couldn't be
+     * sent. The failure is expected to be handled by the caller.
+     *
+     * @param transactionId The transaction id
+     */
+    public void discard(final int transactionId) {
+        final Entry entry = this.lookup.remove(transactionId);
+        if (entry != null) {
+            this.finish(entry, false);
+        }
     }
 
     /**
@@ -127,4 +186,39 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
     public boolean isEmpty() {
         return this.lookup.isEmpty();
     }
+
+    private void finish(final Entry entry, final boolean responded) {
+        entry.cancelTimeout();
+        if (entry.channel == null) {
+            return;
+        }
+        if (responded) {
+            entry.channel.onTransactionCompleted(System.nanoTime() - entry.startTime);
+        } else {
+            entry.channel.onTransactionFailed();
+        }
+    }
+
+    private void expire(final int transactionId, final Entry entry) {
+        // The response may have arrived in the meantime
+        if (!this.lookup.remove(transactionId, entry)) {
+            return;
+        }
+        if (entry.channel != null) {
+            entry.channel.onTransactionTimedOut();
+        }
+        this.fail(transactionId, entry, new TimeoutException());
+    }
+
+    private void fail(final int transactionId, final Entry entry, final ChannelException exception) {
+        try {
+            if (entry.channel != null) {
+                entry.channel.handleTransactionResponse(this.getConnection(), entry.data, TransactionResult.failure(exception));
+            } else if (entry.data instanceof FailureAware) {
+                ((FailureAware) entry.data).onFailure(exception);
+            }
+        } catch (final Throwable ex) {
+            SpongeCommon.getLogger().error("Failed to handle the failure of transaction " + transactionId, ex);
+        }
+    }
 }
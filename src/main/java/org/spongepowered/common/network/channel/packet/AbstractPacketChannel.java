@@ -90,7 +90,7 @@ protected void encodePayload(final ChannelBuf payload, final Packet packet) {
             this.encodePayloadUnsafe(packetContent, packet);
             ChannelBuffers.write(payload, packetContent);
         } catch (final Throwable ex) {
-            ChannelBuffers.release(payload);
+            this.discardPayload(payload);
             throw ex;
         } finally {
             ChannelBuffers.release(packetContent);
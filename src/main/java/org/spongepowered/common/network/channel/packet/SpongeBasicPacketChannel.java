@@ -97,7 +97,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestTo(final
                         sendSuccess.run();
                     }
                 }
-            });
+            }, () -> SpongeBasicPacketChannel.this.releasePayload(connection, payload));
         }
 
         private CompletableFuture<Void> sendNormalTo(final EngineConnection connection, final Packet packet) {
@@ -116,7 +116,7 @@ private CompletableFuture<Void> sendNormalTo(final EngineConnection connection,
             final int transactionId = transactionStore.nextId();
 
             final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createLoginPayloadRequest(SpongeBasicPacketChannel.this.getKey(), payload, transactionId);
-            PacketSender.sendTo(connection, mcPacket, future);
+            PacketSender.sendTo(connection, mcPacket, future, () -> SpongeBasicPacketChannel.this.releasePayload(connection, payload));
             return future;
         }
 
@@ -177,7 +177,7 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
             }
 
             final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createPlayPayload(SpongeBasicPacketChannel.this.getKey(), payload, connection.getSide());
-            PacketSender.sendTo(connection, mcPacket, future);
+            PacketSender.sendTo(connection, mcPacket, future, () -> SpongeBasicPacketChannel.this.releasePayload(connection, payload));
             return future;
         }
     };
@@ -197,7 +197,7 @@ public PacketDispatcher play() {
     }
 
     private ChannelBuf encodePayload(final int opcode, final Packet packet) {
-        final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
+        final ChannelBuf payload = this.allocatePayload();
         payload.writeByte((byte) opcode);
         this.encodePayload(payload, packet);
         return payload;
@@ -205,7 +205,7 @@ private ChannelBuf encodePayload(final int opcode, final Packet packet) {
 
     // This only exists for forge compatibility
     private ChannelBuf encodeLoginPayload(final int opcode, final Packet packet) {
-        final ChannelBuf loginPayload = this.getRegistry().getBufferAllocator().buffer();
+        final ChannelBuf loginPayload = this.allocatePayload();
         final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
         try {
             this.encodePayloadUnsafe(payload, packet);
@@ -213,6 +213,9 @@ private ChannelBuf encodeLoginPayload(final int opcode, final Packet packet) {
             loginPayload.writeVarInt(payload.available() + 1);
             loginPayload.writeByte((byte) opcode);
             ChannelBuffers.write(loginPayload, payload);
+        } catch (final Throwable ex) {
+            this.discardPayload(loginPayload);
+            throw ex;
         } finally {
             ChannelBuffers.release(payload);
         }
@@ -270,7 +273,8 @@ protected void success0(final Packet response) {
                         try {
                             final ChannelBuf responsePayload = SpongeBasicPacketChannel.this.encodeLoginPayload(transactionalBinding.getOpcode(), response);
                             final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createLoginPayloadResponse(responsePayload, transactionId);
-                            PacketSender.sendTo(connection, mcPacket);
+                            PacketSender.sendTo(connection, mcPacket,
+                                    () -> SpongeBasicPacketChannel.this.releasePayload(connection, responsePayload));
                         } catch (final Throwable ex) {
                             SpongeBasicPacketChannel.this.handleException(connection, new ChannelIOException("Failed to encode response packet", ex), null);
                         }
@@ -103,7 +103,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
         final boolean isLoginPhase = ConnectionUtil.isLoginPhase(connection);
         final EngineConnectionSide<?> side = connection.getSide();
 
-        final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
+        final ChannelBuf payload = this.allocatePayload();
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (isLoginPhase) {
@@ -141,12 +141,12 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
                 // Failed before it could reach the client, so complete it
                 // and remove it from the store
                 if (response != null) {
-                    transactionStore.remove(transactionId);
+                    transactionStore.discard(transactionId);
                 }
             } else if (sendSuccess != null) {
                 sendSuccess.run();
             }
-        });
+        }, () -> this.releasePayload(connection, payload));
     }
 
     private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo(final EngineConnection connection,
@@ -154,7 +154,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
         final boolean isLoginPhase = ConnectionUtil.isLoginPhase(connection);
         final EngineConnectionSide<?> side = connection.getSide();
 
-        final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
+        final ChannelBuf payload = this.allocatePayload();
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (packet == null || requestBinding instanceof SpongeFixedTransactionalPacketBinding) {
@@ -200,7 +200,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
         }
 
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket);
+        PacketSender.sendTo(connection, mcPacket, () -> this.releasePayload(connection, payload));
     }
 
     private <P extends Packet> void sendNormalPacketTo(final EngineConnection connection, final P packet, final CompletableFuture<Void> future) {
@@ -210,7 +210,7 @@ private <P extends Packet> void sendNormalPacketTo(final EngineConnection connec
         final boolean isLoginPhase = ConnectionUtil.isLoginPhase(connection);
         final EngineConnectionSide<?> side = connection.getSide();
 
-        final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
+        final ChannelBuf payload = this.allocatePayload();
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (isLoginPhase) {
@@ -236,7 +236,7 @@ private <P extends Packet> void sendNormalPacketTo(final EngineConnection connec
         }
 
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket, future);
+        PacketSender.sendTo(connection, mcPacket, future, () -> this.releasePayload(connection, payload));
     }
 
     @Override
@@ -71,8 +71,13 @@ protected void handleTransactionResponse(EngineConnection connection, Object sto
     }
 
     ChannelBuf encodePayload(final Consumer<ChannelBuf> payload) {
-        final ChannelBuf buf = this.getRegistry().getBufferAllocator().buffer();
-        payload.accept(buf);
+        final ChannelBuf buf = this.allocatePayload();
+        try {
+            payload.accept(buf);
+        } catch (final Throwable ex) {
+            this.discardPayload(buf);
+            throw ex;
+        }
         return buf;
     }
 }
@@ -117,7 +117,8 @@ public void success(final Consumer<ChannelBuf> response) {
                     PacketSender.sendTo(connection, PacketUtil.createLoginPayloadResponse(null, transactionId));
                     return;
                 }
-                PacketSender.sendTo(connection, PacketUtil.createLoginPayloadResponse(payload, transactionId));
+                PacketSender.sendTo(connection, PacketUtil.createLoginPayloadResponse(payload, transactionId),
+                        () -> SpongeRawLoginDataChannel.this.parent.releasePayload(connection, payload));
             }
         };
         boolean success = false;
@@ -173,7 +174,7 @@ public CompletableFuture<ChannelBuf> sendTo(final EngineConnection connection, f
                 // The packet already failed before it could reach the client
                 future.completeExceptionally(sendFuture.cause());
             }
-        });
+        }, () -> this.parent.releasePayload(connection, buf));
 
         return future;
     }
@@ -117,7 +117,7 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
         }
 
         final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent.getKey(), payload, connection.getSide());
-        PacketSender.sendTo(connection, mcPacket, future);
+        PacketSender.sendTo(connection, mcPacket, future, () -> this.parent.releasePayload(connection, payload));
         return future;
     }
 
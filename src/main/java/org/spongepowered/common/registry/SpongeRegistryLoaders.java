@@ -182,9 +182,11 @@
 import org.spongepowered.common.data.nbt.validation.SpongeValidationType;
 import org.spongepowered.common.data.nbt.validation.ValidationType;
 import org.spongepowered.common.data.nbt.validation.ValidationTypes;
+import org.spongepowered.common.data.persistence.BinaryDataFormat;
 import org.spongepowered.common.data.persistence.HoconDataFormat;
 import org.spongepowered.common.data.persistence.JsonDataFormat;
 import org.spongepowered.common.data.persistence.NBTDataFormat;
+import org.spongepowered.common.data.persistence.SpongeDataFormats;
 import org.spongepowered.common.data.type.SpongeBodyPart;
 import org.spongepowered.common.data.type.SpongeCatType;
 import org.spongepowered.common.data.type.SpongeHorseColor;
@@ -844,6 +846,7 @@ public static RegistryLoader<DataFormat> dataFormat() {
             l.add(DataFormats.JSON, k -> new JsonDataFormat());
             l.add(DataFormats.HOCON, k -> new HoconDataFormat());
             l.add(DataFormats.NBT, k -> new NBTDataFormat());
+            l.add(SpongeDataFormats.BINARY, k -> new BinaryDataFormat());
         });
     }
 
@@ -24,18 +24,17 @@
  */
 package org.spongepowered.common.scheduler;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
 
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,16 +47,11 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The configurable thread pooling executor of asynchronous tasks.
+    private final AsyncTaskExecutor taskExecutor = new AsyncTaskExecutor(SpongeConfigs.getCommon().get().scheduler);
+    private final ExecutorService executor = this.taskExecutor.getExecutor();
     private volatile boolean running = true;
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-
     public AsyncScheduler() {
         super("A");
 
@@ -68,60 +62,17 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
-            this.recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.getTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.task.delay > 0 && task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
     @Override
     protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -135,7 +86,17 @@ protected void preTick() {
             // If we have something that has indicated it needs to change,
             // don't await, just continue.
             if (!this.stateChanged.get()) {
-                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+                // Only wait until the next queued task is due, the queue
+                // is ordered so this doesn't need to visit any other task.
+                final long nextDue = this.getNextRealTimeDueTimestamp();
+                if (nextDue == Long.MAX_VALUE) {
+                    this.condition.await();
+                } else {
+                    final long timeout = nextDue - System.nanoTime();
+                    if (timeout > 0) {
+                        this.condition.await(timeout, TimeUnit.NANOSECONDS);
+                    }
+                }
             }
             // We're processing now. Set to false.
             this.stateChanged.set(false);
@@ -147,11 +108,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -159,6 +115,8 @@ protected void finallyPostTick() {
 
     @Override
     protected void onTaskCompletion(final SpongeScheduledTask task) {
+        // Repeating tasks are queued again once they complete, wake up to
+        // account for their next due timestamp.
         if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
             this.lock.lock();
             try {
@@ -172,7 +130,33 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     @Override
     protected void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        this.taskExecutor.execute(task, runnable);
+    }
+
+    public int getPoolSize() {
+        return this.taskExecutor.getPoolSize();
+    }
+
+    public int getActiveThreadCount() {
+        return this.taskExecutor.getActiveThreadCount();
+    }
+
+    public long getRejectedCount() {
+        return this.taskExecutor.getRejectedCount();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a free slot in the concurrency
+     * quota of their plugin.
+     *
+     * @return The number of waiting tasks
+     */
+    public int getQuotaWaitingCount() {
+        return this.taskExecutor.getQuotaWaitingCount();
+    }
+
+    public int getQuotaWaitingCount(final String pluginId) {
+        return this.taskExecutor.getQuotaWaitingCount(pluginId);
     }
 
     public <T> CompletableFuture<T> submit(Callable<T> callable) {
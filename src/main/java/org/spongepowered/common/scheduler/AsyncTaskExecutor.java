@@ -0,0 +1,228 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executor of the {@link AsyncScheduler}, either an unbounded cached
+ * thread pool or a bounded work-stealing pool, optionally limiting the number
+ * of tasks each plugin may run concurrently.
+ *
+ * <p>Tasks of a plugin that is over its quota wait in a FIFO queue owned by
+ * that plugin and are handed to the pool as soon as one of its running tasks
+ * completes, so a burst of one plugin never delays the tasks of another.</p>
+ */
+final class AsyncTaskExecutor {
+
+    private static final String THREAD_NAME_FORMAT = "Sponge-AsyncScheduler-%d";
+
+    private final ExecutorService executor;
+    private final int pluginQuota;
+    private final Map<String, PluginQueue> pluginQueues = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    AsyncTaskExecutor(final SchedulerCategory config) {
+        if (SchedulerCategory.WORK_STEALING_EXECUTOR.equalsIgnoreCase(config.asyncExecutor)) {
+            final int parallelism = config.asyncParallelism > 0 ? config.asyncParallelism : Runtime.getRuntime().availableProcessors();
+            this.executor = new ForkJoinPool(parallelism, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(String.format(AsyncTaskExecutor.THREAD_NAME_FORMAT, thread.getPoolIndex()));
+                return thread;
+            }, null, true);
+        } else {
+            if (!SchedulerCategory.CACHED_EXECUTOR.equalsIgnoreCase(config.asyncExecutor)) {
+                SpongeCommon.getLogger().warn("Unknown async scheduler executor '{}', falling back to '{}'", config.asyncExecutor,
+                        SchedulerCategory.CACHED_EXECUTOR);
+            }
+            this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat(AsyncTaskExecutor.THREAD_NAME_FORMAT)
+                    .build());
+        }
+        this.pluginQuota = config.asyncMaxConcurrentTasksPerPlugin;
+    }
+
+    ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Executes the runnable of a task, respecting the quota of the plugin
+     * owning the task.
+     *
+     * @param task The task
+     * @param runnable The runnable to execute
+     */
+    void execute(final SpongeScheduledTask task, final Runnable runnable) {
+        if (this.pluginQuota <= 0) {
+            this.submit(task, runnable);
+            return;
+        }
+        final PluginQueue queue = this.pluginQueues.computeIfAbsent(task.getOwner().getMetadata().getId(), id -> new PluginQueue());
+        final QueuedRunnable queued = new QueuedRunnable(task, runnable);
+        synchronized (queue) {
+            if (queue.running >= this.pluginQuota) {
+                queue.pending.add(queued);
+                return;
+            }
+            queue.running++;
+        }
+        this.submitQueued(queue, queued);
+    }
+
+    private void submitQueued(final PluginQueue queue, QueuedRunnable queued) {
+        while (queued != null) {
+            final QueuedRunnable current = queued;
+            if (this.submit(current.task, () -> {
+                try {
+                    current.runnable.run();
+                } finally {
+                    this.onQueuedCompletion(queue);
+                }
+            })) {
+                return;
+            }
+            // Rejected, free the slot for the next pending task
+            synchronized (queue) {
+                queued = queue.pending.poll();
+                if (queued == null) {
+                    queue.running--;
+                }
+            }
+        }
+    }
+
+    private void onQueuedCompletion(final PluginQueue queue) {
+        final QueuedRunnable next;
+        synchronized (queue) {
+            next = queue.pending.poll();
+            if (next == null) {
+                queue.running--;
+                return;
+            }
+        }
+        this.submitQueued(queue, next);
+    }
+
+    private boolean submit(final SpongeScheduledTask task, final Runnable runnable) {
+        try {
+            this.executor.execute(runnable);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            this.rejected.increment();
+            task.metrics.onRejection();
+            SpongeCommon.getLogger().error("The async scheduler rejected the task '{}' owned by '{}'", task.getName(),
+                    task.getOwner().getMetadata().getId(), e);
+            task.getScheduler().onTaskRejected(task);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of threads currently in the pool.
+     *
+     * @return The pool size
+     */
+    int getPoolSize() {
+        if (this.executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) this.executor).getPoolSize();
+        }
+        return ((ThreadPoolExecutor) this.executor).getPoolSize();
+    }
+
+    /**
+     * Gets the approximate number of threads currently running tasks.
+     *
+     * @return The active thread count
+     */
+    int getActiveThreadCount() {
+        if (this.executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) this.executor).getActiveThreadCount();
+        }
+        return ((ThreadPoolExecutor) this.executor).getActiveCount();
+    }
+
+    long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Gets the number of tasks of the plugin waiting for a free slot in its
+     * quota.
+     *
+     * @param pluginId The plugin id
+     * @return The number of waiting tasks
+     */
+    int getQuotaWaitingCount(final String pluginId) {
+        final PluginQueue queue = this.pluginQueues.get(pluginId);
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    int getQuotaWaitingCount() {
+        int waiting = 0;
+        for (final PluginQueue queue : this.pluginQueues.values()) {
+            synchronized (queue) {
+                waiting += queue.pending.size();
+            }
+        }
+        return waiting;
+    }
+
+    private static final class PluginQueue {
+
+        final Queue<QueuedRunnable> pending = new ArrayDeque<>();
+        int running;
+    }
+
+    private static final class QueuedRunnable {
+
+        final SpongeScheduledTask task;
+        final Runnable runnable;
+
+        QueuedRunnable(final SpongeScheduledTask task, final Runnable runnable) {
+            this.task = task;
+            this.runnable = runnable;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * A delay ordered queue of {@link SpongeScheduledTask}s. A scheduler wakeup
+ * only has to poll the head of this queue to find the tasks that are due,
+ * instead of visiting every known task.
+ *
+ * <p>All due timestamps stored in a single queue must come from the same
+ * clock, see {@link SpongeScheduler#getTimestamp(SpongeScheduledTask)}.</p>
+ */
+final class ScheduledTaskQueue {
+
+    private static final Comparator<SpongeScheduledTask> ORDER = Comparator
+            .comparingLong(SpongeScheduledTask::getDueTimestamp)
+            .thenComparingLong(SpongeScheduledTask::getQueueSequence);
+
+    private final PriorityQueue<SpongeScheduledTask> queue = new PriorityQueue<>(ScheduledTaskQueue.ORDER);
+    private long sequenceNumber = 0L;
+
+    /**
+     * Queues the task to be executed once the given timestamp has passed.
+     *
+     * @param task The task
+     * @param dueTimestamp The timestamp at which the task is due
+     */
+    synchronized void add(final SpongeScheduledTask task, final long dueTimestamp) {
+        task.setDueTimestamp(dueTimestamp);
+        task.setQueueSequence(this.sequenceNumber++);
+        this.queue.add(task);
+        task.metrics.onEnqueue();
+    }
+
+    /**
+     * Queues a task that was polled but not processed again, keeping its due
+     * timestamp and position so it stays ahead of tasks due later.
+     *
+     * @param task The task
+     */
+    synchronized void requeue(final SpongeScheduledTask task) {
+        this.queue.add(task);
+        task.metrics.onEnqueue();
+    }
+
+    /**
+     * Removes the task from this queue, if it is queued.
+     *
+     * @param task The task
+     */
+    synchronized void remove(final SpongeScheduledTask task) {
+        if (this.queue.remove(task)) {
+            task.metrics.onDequeue();
+        }
+    }
+
+    /**
+     * Moves all the tasks that are due at the given timestamp into the
+     * collection, in the order they were due.
+     *
+     * @param now The current timestamp
+     * @param into The collection to add the due tasks to
+     */
+    synchronized void pollDue(final long now, final Collection<SpongeScheduledTask> into) {
+        SpongeScheduledTask head;
+        while ((head = this.queue.peek()) != null && head.getDueTimestamp() <= now) {
+            this.queue.poll();
+            head.metrics.onDequeue();
+            into.add(head);
+        }
+    }
+
+    /**
+     * Gets the timestamp at which the next task is due.
+     *
+     * @return The next due timestamp, or {@link Long#MAX_VALUE} if empty
+     */
+    synchronized long peekDueTimestamp() {
+        final SpongeScheduledTask head = this.queue.peek();
+        return head == null ? Long.MAX_VALUE : head.getDueTimestamp();
+    }
+
+    synchronized int size() {
+        return this.queue.size();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per plugin queue depth and lateness counters of a {@link SpongeScheduler}.
+ */
+public final class SchedulerMetrics {
+
+    private final Map<String, PluginMetrics> plugins = new ConcurrentHashMap<>();
+
+    PluginMetrics forPlugin(final PluginContainer plugin) {
+        return this.plugins.computeIfAbsent(plugin.getMetadata().getId(), id -> new PluginMetrics());
+    }
+
+    /**
+     * Gets the metrics of every plugin that submitted a task, keyed by
+     * plugin id.
+     *
+     * @return The metrics per plugin id
+     */
+    public Map<String, PluginMetrics> getPluginMetrics() {
+        return Collections.unmodifiableMap(this.plugins);
+    }
+
+    public static final class PluginMetrics {
+
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalLateness = new LongAdder();
+        private final AtomicLong maxLateness = new AtomicLong();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder deferrals = new LongAdder();
+
+        PluginMetrics() {
+        }
+
+        void onEnqueue() {
+            this.queued.increment();
+        }
+
+        void onDequeue() {
+            this.queued.decrement();
+        }
+
+        void onExecution(final long lateness) {
+            final long clamped = Math.max(0L, lateness);
+            this.executions.increment();
+            this.totalLateness.add(clamped);
+            this.maxLateness.accumulateAndGet(clamped, Math::max);
+        }
+
+        void onRejection() {
+            this.rejections.increment();
+        }
+
+        void onDeferral() {
+            this.deferrals.increment();
+        }
+
+        /**
+         * Gets the number of tasks currently waiting in the queue.
+         *
+         * @return The queue depth
+         */
+        public long getQueueDepth() {
+            return this.queued.sum();
+        }
+
+        public long getExecutions() {
+            return this.executions.sum();
+        }
+
+        /**
+         * Gets the average time between the moment a task was due and the
+         * moment it actually started.
+         *
+         * @return The average lateness, in nanoseconds
+         */
+        public long getAverageLatenessNanos() {
+            final long executions = this.executions.sum();
+            return executions == 0 ? 0L : this.totalLateness.sum() / executions;
+        }
+
+        public long getMaxLatenessNanos() {
+            return this.maxLateness.get();
+        }
+
+        /**
+         * Gets the number of executions that were rejected by the executor
+         * of the scheduler.
+         *
+         * @return The number of rejected executions
+         */
+        public long getRejections() {
+            return this.rejections.sum();
+        }
+
+        /**
+         * Gets the number of times a due task was deferred to the next tick
+         * because the tick budget of the scheduler was exhausted.
+         *
+         * @return The number of deferrals
+         */
+        public long getDeferrals() {
+            return this.deferrals.sum();
+        }
+    }
+}
@@ -36,10 +36,13 @@
 public final class SpongeScheduledTask implements ScheduledTask {
 
     final SpongeTask task;
+    final SchedulerMetrics.PluginMetrics metrics;
     private final SpongeScheduler scheduler;
     private final UUID id;
     private final String name;
     private long timestamp;
+    private long dueTimestamp;
+    private long queueSequence;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
@@ -48,6 +51,7 @@ public final class SpongeScheduledTask implements ScheduledTask {
         this.id = UUID.randomUUID();
         this.name = taskName;
         this.task = task;
+        this.metrics = scheduler.getMetrics().forPlugin(task.getOwner());
         // All tasks begin waiting.
         this.state = ScheduledTaskState.WAITING;
     }
@@ -76,6 +80,7 @@ public boolean cancel() {
         }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.cancelTask(this);
         return success;
     }
 
@@ -110,6 +115,22 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    long getDueTimestamp() {
+        return this.dueTimestamp;
+    }
+
+    void setDueTimestamp(long dueTimestamp) {
+        this.dueTimestamp = dueTimestamp;
+    }
+
+    long getQueueSequence() {
+        return this.queueSequence;
+    }
+
+    void setQueueSequence(long queueSequence) {
+        this.queueSequence = queueSequence;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
@@ -37,7 +37,9 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -57,8 +59,14 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // The simple lookup of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    // The delay ordered queues of tasks waiting for their next execution, one per clock
+    private final ScheduledTaskQueue realTimeQueue = new ScheduledTaskQueue();
+    private final ScheduledTaskQueue tickQueue = new ScheduledTaskQueue();
+    // Reused by runTick, which is never entered concurrently
+    private final List<SpongeScheduledTask> dueTasks = new ArrayList<>();
+    private final SchedulerMetrics metrics = new SchedulerMetrics();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(String tag) {
@@ -77,18 +85,70 @@ public abstract class SpongeScheduler implements Scheduler {
      * @return Timestamp for the task
      */
     protected long getTimestamp(SpongeScheduledTask task) {
+        if (this.isTickBased(task)) {
+            return this.getTickTimestamp();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Gets whether the timestamps of the task are based on ticks rather than
+     * real time, see {@link #getTickTimestamp()}.
+     *
+     * @param task The task
+     * @return True if the task is tick based
+     */
+    protected boolean isTickBased(SpongeScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the current timestamp for tasks that are tick based.
+     *
+     * @return Timestamp for tick based tasks
+     */
+    protected long getTickTimestamp() {
         return System.nanoTime();
     }
 
+    /**
+     * Gets the real time timestamp at which the next task is due.
+     *
+     * @return The next due timestamp, or {@link Long#MAX_VALUE} if there is none
+     */
+    protected long getNextRealTimeDueTimestamp() {
+        return this.realTimeQueue.peekDueTimestamp();
+    }
+
+    /**
+     * Gets the maximum time a single call to {@link #runTick} may spend
+     * starting due tasks before the remaining ones are deferred.
+     *
+     * @return The budget in nanoseconds, or zero or lower if unlimited
+     */
+    protected long getTickBudget() {
+        return 0L;
+    }
+
+    public SchedulerMetrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * next call to {@link #runTick} after which it is due.
      *
      * @param task The task to add
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.enqueueTask(task);
+    }
+
+    private void enqueueTask(final SpongeScheduledTask task) {
+        final ScheduledTaskQueue queue = this.isTickBased(task) ? this.tickQueue : this.realTimeQueue;
+        queue.add(task, task.nextExecutionTimestamp());
     }
 
     /**
@@ -96,10 +156,23 @@ protected void addTask(final SpongeScheduledTask task) {
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Removes the cancelled task from the task map and its queue, so it
+     * doesn't count towards the queue depth until it would have been due.
+     * A task that was already polled is dropped once it is processed.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        final ScheduledTaskQueue queue = this.isTickBased(task) ? this.tickQueue : this.realTimeQueue;
+        queue.remove(task);
+    }
+
     @Override
     public Optional<ScheduledTask> getTaskById(UUID id) {
         checkNotNull(id, "id");
@@ -166,13 +239,18 @@ public SpongeScheduledTask submit(Task task) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            final long budget = this.getTickBudget();
+            final long deadline = budget > 0L ? System.nanoTime() + budget : Long.MAX_VALUE;
+            // Both queues get to run at least one task, so real-time tasks can't
+            // be starved by tick tasks that use up the whole budget
+            this.processQueue(this.tickQueue, this.getTickTimestamp(), deadline);
+            this.processQueue(this.realTimeQueue, System.nanoTime(), deadline);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -200,45 +278,71 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes the tasks of the queue that are due. Only the tasks that were
+     * due when this method was entered are processed, repeating tasks that
+     * are queued again while processing wait for the next call.
+     *
+     * <p>Once the deadline has passed, the remaining due tasks are deferred
+     * to the next call, in the order they were due.</p>
+     *
+     * @param queue The queue to poll
+     * @param now The current timestamp of the queue's clock
+     * @param deadline The {@link System#nanoTime()} after which due tasks are deferred
+     */
+    private void processQueue(final ScheduledTaskQueue queue, final long now, final long deadline) {
+        queue.pollDue(now, this.dueTasks);
+        try {
+            final int size = this.dueTasks.size();
+            for (int i = 0; i < size; i++) {
+                // Always let at least one task of the queue run so deferred tasks can't starve
+                if (i > 0 && deadline != Long.MAX_VALUE && System.nanoTime() >= deadline) {
+                    this.deferTasks(queue, i);
+                    break;
+                }
+                this.processTask(this.dueTasks.get(i), now);
+            }
+        } finally {
+            this.dueTasks.clear();
+        }
+    }
+
+    private void deferTasks(final ScheduledTaskQueue queue, final int from) {
+        for (int i = from; i < this.dueTasks.size(); i++) {
+            final SpongeScheduledTask task = this.dueTasks.get(i);
+            if (task.getState() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+                continue;
+            }
+            queue.requeue(task);
+            task.metrics.onDeferral();
+        }
+    }
+
+    /**
+     * Processes a task that is due.
      *
      * @param task The task to process
+     * @param now The current timestamp of the task's clock
      */
-    private void processTask(final SpongeScheduledTask task) {
+    private void processTask(final SpongeScheduledTask task, final long now) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.getState() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-        } else if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // A task is only queued again once the previous occurrence terminated,
+        // so a due task is never still executing. Repeating tasks get a
+        // reset-timestamp each time they are started. If the task has an
+        // interval of 0 (zero) this task will not repeat, and is removed after
+        // we start it.
+        task.metrics.onExecution(now - task.getDueTimestamp());
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(now);
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -266,6 +370,9 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval > 0L) {
+                        this.enqueueTask(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
@@ -273,6 +380,22 @@ private void startTask(final SpongeScheduledTask task) {
         });
     }
 
+    /**
+     * Run when the executor of the scheduler refused to run the task, so that
+     * repeating tasks are not lost.
+     *
+     * @param task The rejected task
+     */
+    void onTaskRejected(final SpongeScheduledTask task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+        if (task.task.interval > 0L) {
+            this.enqueueTask(task);
+        }
+    }
+
     @Nullable
     protected PhaseContext<?> createContext(SpongeScheduledTask task, PluginContainer container) {
         return null;
@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.concurrent.TimeUnit;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
@@ -42,13 +46,20 @@ public void tick() {
     }
 
     @Override
-    protected long getTimestamp(SpongeScheduledTask task) {
+    protected boolean isTickBased(SpongeScheduledTask task) {
+        return task.task.tickBased;
+    }
+
+    @Override
+    protected long getTickTimestamp() {
         // The task is based on minecraft ticks, so we generate
         // a timestamp based on the elapsed ticks
-        if (task.task.tickBased) {
-            return this.counter * SpongeScheduler.TICK_DURATION_NS;
-        }
-        return super.getTimestamp(task);
+        return this.counter * SpongeScheduler.TICK_DURATION_NS;
+    }
+
+    @Override
+    protected long getTickBudget() {
+        return TimeUnit.MILLISECONDS.toNanos(SpongeConfigs.getCommon().get().scheduler.syncTickBudget);
     }
 
     @Override
@@ -0,0 +1,352 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The creators and notifiers of the blocks of a single chunk.
+ *
+ * <p>Positions are packed relative to the chunk, into a short when the y
+ * coordinate fits into 8 bits and into an int otherwise. Every position
+ * maps to an int holding the palette index of its creator in the upper and
+ * of its notifier in the lower 16 bits, the palette holds every distinct
+ * {@link UUID} once per chunk.</p>
+ */
+public final class ChunkBlockTracker {
+
+    private static final int NO_INDEX = 0xFFFF;
+    private static final int NO_ENTRY = -1;
+    private static final int MAX_PALETTE_SIZE = ChunkBlockTracker.NO_INDEX;
+
+    private final Short2IntMap shortPositions = new Short2IntOpenHashMap();
+    private final Int2IntMap intPositions = new Int2IntOpenHashMap();
+    private final List<UUID> palette = new ArrayList<>();
+    private final Object2IntMap<UUID> paletteIndices = new Object2IntOpenHashMap<>();
+
+    public ChunkBlockTracker() {
+        this.shortPositions.defaultReturnValue(ChunkBlockTracker.NO_ENTRY);
+        this.intPositions.defaultReturnValue(ChunkBlockTracker.NO_ENTRY);
+        this.paletteIndices.defaultReturnValue(ChunkBlockTracker.NO_ENTRY);
+    }
+
+    private static boolean fitsShort(final int y) {
+        return (y & ~Constants.Chunk.Y_SHORT_MASK) == 0;
+    }
+
+    private static short shortPos(final int x, final int y, final int z) {
+        return (short) ((x & Constants.Chunk.XZ_MASK) << 12 | (z & Constants.Chunk.XZ_MASK) << 8 | y);
+    }
+
+    private static int intPos(final int x, final int y, final int z) {
+        return (x & Constants.Chunk.XZ_MASK) << 28 | (z & Constants.Chunk.XZ_MASK) << 24 | (y & Constants.Chunk.Y_INT_MASK);
+    }
+
+    private static int intPos(final short pos) {
+        return ChunkBlockTracker.intPos(pos >> 12 & Constants.Chunk.XZ_MASK, pos & Constants.Chunk.Y_SHORT_MASK, pos >> 8 & Constants.Chunk.XZ_MASK);
+    }
+
+    private static int shift(final PlayerTracker.Type type) {
+        return type == PlayerTracker.Type.CREATOR ? 16 : 0;
+    }
+
+    private int getEntry(final BlockPos pos) {
+        if (ChunkBlockTracker.fitsShort(pos.getY())) {
+            return this.shortPositions.get(ChunkBlockTracker.shortPos(pos.getX(), pos.getY(), pos.getZ()));
+        }
+        return this.intPositions.get(ChunkBlockTracker.intPos(pos.getX(), pos.getY(), pos.getZ()));
+    }
+
+    private void putEntry(final int x, final int y, final int z, final int entry) {
+        final boolean remove = entry == (ChunkBlockTracker.NO_INDEX << 16 | ChunkBlockTracker.NO_INDEX);
+        if (ChunkBlockTracker.fitsShort(y)) {
+            final short key = ChunkBlockTracker.shortPos(x, y, z);
+            if (remove) {
+                this.shortPositions.remove(key);
+            } else {
+                this.shortPositions.put(key, entry);
+            }
+        } else {
+            final int key = ChunkBlockTracker.intPos(x, y, z);
+            if (remove) {
+                this.intPositions.remove(key);
+            } else {
+                this.intPositions.put(key, entry);
+            }
+        }
+    }
+
+    public @Nullable UUID get(final BlockPos pos, final PlayerTracker.Type type) {
+        final int entry = this.getEntry(pos);
+        if (entry == ChunkBlockTracker.NO_ENTRY) {
+            return null;
+        }
+        final int index = entry >>> ChunkBlockTracker.shift(type) & ChunkBlockTracker.NO_INDEX;
+        return index == ChunkBlockTracker.NO_INDEX ? null : this.palette.get(index);
+    }
+
+    /**
+     * Sets the creator or notifier of the block at the given position.
+     *
+     * @param pos The block position
+     * @param type The tracker type
+     * @param uuid The unique id of the player, or {@code null} to clear it
+     * @return Whether the tracked data changed
+     */
+    public boolean set(final BlockPos pos, final PlayerTracker.Type type, final @Nullable UUID uuid) {
+        int index = ChunkBlockTracker.NO_INDEX;
+        if (uuid != null) {
+            index = this.paletteIndices.getInt(uuid);
+            if (index == ChunkBlockTracker.NO_ENTRY) {
+                if (this.palette.size() >= ChunkBlockTracker.MAX_PALETTE_SIZE) {
+                    return false;
+                }
+                index = this.palette.size();
+                this.palette.add(uuid);
+                this.paletteIndices.put(uuid, index);
+            }
+        }
+        int entry = this.getEntry(pos);
+        if (entry == ChunkBlockTracker.NO_ENTRY) {
+            entry = ChunkBlockTracker.NO_INDEX << 16 | ChunkBlockTracker.NO_INDEX;
+        }
+        final int shift = ChunkBlockTracker.shift(type);
+        final int newEntry = entry & ~(ChunkBlockTracker.NO_INDEX << shift) | index << shift;
+        if (newEntry == entry) {
+            return false;
+        }
+        this.putEntry(pos.getX(), pos.getY(), pos.getZ(), newEntry);
+        return true;
+    }
+
+    /**
+     * Removes the creator and notifier of the block at the given position.
+     *
+     * @param pos The block position
+     * @return Whether the tracked data changed
+     */
+    public boolean remove(final BlockPos pos) {
+        if (ChunkBlockTracker.fitsShort(pos.getY())) {
+            return this.shortPositions.remove(ChunkBlockTracker.shortPos(pos.getX(), pos.getY(), pos.getZ())) != ChunkBlockTracker.NO_ENTRY;
+        }
+        return this.intPositions.remove(ChunkBlockTracker.intPos(pos.getX(), pos.getY(), pos.getZ())) != ChunkBlockTracker.NO_ENTRY;
+    }
+
+    public int size() {
+        return this.shortPositions.size() + this.intPositions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.shortPositions.isEmpty() && this.intPositions.isEmpty();
+    }
+
+    /**
+     * Gets the approximate amount of memory, in bytes, used by the tracked
+     * positions and the palette. Hash maps are assumed to be filled up to
+     * their default load factor.
+     *
+     * @return The estimated size in bytes
+     */
+    public long getEstimatedSize() {
+        return ChunkBlockTracker.estimateSize(this.shortPositions.size(), this.intPositions.size(), this.palette.size());
+    }
+
+    /**
+     * Gets the estimated size of the tracked positions in the compound once
+     * they are decoded, without decoding them. All the positions are
+     * assumed to need the int key.
+     *
+     * @param compound The compound
+     * @return The estimated size in bytes
+     */
+    public static long getEstimatedSize(final CompoundTag compound) {
+        final int positions = compound.getIntArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE).length / 2;
+        final int palette = compound.getList(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, Constants.NBT.TAG_INT_ARRAY).size();
+        return ChunkBlockTracker.estimateSize(0, positions, palette);
+    }
+
+    private static long estimateSize(final int shortPositions, final int intPositions, final int palette) {
+        final long shortEntries = (long) Math.ceil(shortPositions / 0.75D) * (Short.BYTES + Integer.BYTES);
+        final long intEntries = (long) Math.ceil(intPositions / 0.75D) * (Integer.BYTES + Integer.BYTES);
+        // Every palette entry is a UUID object, referenced by the list and the index map
+        final long paletteEntries = palette * (32L + 8L + (long) Math.ceil(1 / 0.75D) * (8L + Integer.BYTES));
+        return shortEntries + intEntries + paletteEntries;
+    }
+
+    private static PlayerTracker toPlayerTracker(final int entry) {
+        final PlayerTracker tracker = new PlayerTracker();
+        final int creator = entry >>> 16 & ChunkBlockTracker.NO_INDEX;
+        final int notifier = entry & ChunkBlockTracker.NO_INDEX;
+        tracker.creatorindex = creator == ChunkBlockTracker.NO_INDEX ? -1 : creator;
+        tracker.notifierIndex = notifier == ChunkBlockTracker.NO_INDEX ? -1 : notifier;
+        return tracker;
+    }
+
+    private static int fromPlayerTracker(final PlayerTracker tracker) {
+        final int creator = tracker.creatorindex < 0 ? ChunkBlockTracker.NO_INDEX : tracker.creatorindex;
+        final int notifier = tracker.notifierIndex < 0 ? ChunkBlockTracker.NO_INDEX : tracker.notifierIndex;
+        return creator << 16 | notifier;
+    }
+
+    public Map<Short, PlayerTracker> getShortPositions() {
+        final Map<Short, PlayerTracker> positions = new HashMap<>();
+        for (final Short2IntMap.Entry entry : this.shortPositions.short2IntEntrySet()) {
+            positions.put(entry.getShortKey(), ChunkBlockTracker.toPlayerTracker(entry.getIntValue()));
+        }
+        return positions;
+    }
+
+    public Map<Integer, PlayerTracker> getIntPositions() {
+        final Map<Integer, PlayerTracker> positions = new HashMap<>();
+        for (final Int2IntMap.Entry entry : this.intPositions.int2IntEntrySet()) {
+            positions.put(entry.getIntKey(), ChunkBlockTracker.toPlayerTracker(entry.getIntValue()));
+        }
+        return positions;
+    }
+
+    public void setShortPositions(final Map<Short, PlayerTracker> positions) {
+        this.shortPositions.clear();
+        positions.forEach((pos, tracker) -> {
+            if (this.isValid(tracker)) {
+                this.shortPositions.put((short) pos, ChunkBlockTracker.fromPlayerTracker(tracker));
+            }
+        });
+    }
+
+    public void setIntPositions(final Map<Integer, PlayerTracker> positions) {
+        this.intPositions.clear();
+        positions.forEach((pos, tracker) -> {
+            if (this.isValid(tracker)) {
+                this.intPositions.put((int) pos, ChunkBlockTracker.fromPlayerTracker(tracker));
+            }
+        });
+    }
+
+    private boolean isValid(final PlayerTracker tracker) {
+        // Indices that don't point into the palette of this chunk are dropped, like in read
+        return (tracker.creatorindex < 0 || this.isValid(tracker.creatorindex))
+                && (tracker.notifierIndex < 0 || this.isValid(tracker.notifierIndex));
+    }
+
+    /**
+     * Writes the tracked positions into the given compound. Only the palette
+     * entries that are still in use are written.
+     *
+     * @param compound The compound to write to
+     */
+    public void write(final CompoundTag compound) {
+        final int[] remapped = new int[this.palette.size()];
+        final ListTag palette = new ListTag();
+        final IntArrayList positions = new IntArrayList(this.size() * 2);
+        for (final Short2IntMap.Entry entry : this.shortPositions.short2IntEntrySet()) {
+            positions.add(ChunkBlockTracker.intPos(entry.getShortKey()));
+            positions.add(this.remap(entry.getIntValue(), remapped, palette));
+        }
+        for (final Int2IntMap.Entry entry : this.intPositions.int2IntEntrySet()) {
+            positions.add(entry.getIntKey());
+            positions.add(this.remap(entry.getIntValue(), remapped, palette));
+        }
+        compound.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, palette);
+        compound.putIntArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions.toIntArray());
+    }
+
+    private int remap(final int entry, final int[] remapped, final ListTag palette) {
+        final int creator = this.remapIndex(entry >>> 16 & ChunkBlockTracker.NO_INDEX, remapped, palette);
+        final int notifier = this.remapIndex(entry & ChunkBlockTracker.NO_INDEX, remapped, palette);
+        return creator << 16 | notifier;
+    }
+
+    private int remapIndex(final int index, final int[] remapped, final ListTag palette) {
+        if (index == ChunkBlockTracker.NO_INDEX) {
+            return index;
+        }
+        // Stored shifted by one, so that 0 means not written yet
+        if (remapped[index] == 0) {
+            palette.add(NbtUtils.createUUID(this.palette.get(index)));
+            remapped[index] = palette.size();
+        }
+        return remapped[index] - 1;
+    }
+
+    /**
+     * Reads the tracked positions written by {@link #write(CompoundTag)}.
+     *
+     * @param compound The compound to read from
+     * @return The tracker
+     */
+    public static ChunkBlockTracker read(final CompoundTag compound) {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        final ListTag palette = compound.getList(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, Constants.NBT.TAG_INT_ARRAY);
+        for (final Tag tag : palette) {
+            final UUID uuid = NbtUtils.loadUUID(tag);
+            tracker.paletteIndices.put(uuid, tracker.palette.size());
+            tracker.palette.add(uuid);
+        }
+        final int[] positions = compound.getIntArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE);
+        for (int i = 0; i + 1 < positions.length; i += 2) {
+            final int pos = positions[i];
+            final int entry = positions[i + 1];
+            if (!tracker.isValid(entry >>> 16 & ChunkBlockTracker.NO_INDEX) || !tracker.isValid(entry & ChunkBlockTracker.NO_INDEX)) {
+                continue;
+            }
+            tracker.putEntry(pos >>> 28 & Constants.Chunk.XZ_MASK, pos & Constants.Chunk.Y_INT_MASK, pos >>> 24 & Constants.Chunk.XZ_MASK, entry);
+        }
+        return tracker;
+    }
+
+    private boolean isValid(final int index) {
+        return index == ChunkBlockTracker.NO_INDEX || index < this.palette.size();
+    }
+
+    /**
+     * Gets whether the compound contains tracked positions.
+     *
+     * @param compound The compound
+     * @return Whether tracked positions are present
+     */
+    public static boolean isPresent(final CompoundTag compound) {
+        return compound.contains(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_INT_ARRAY);
+    }
+}
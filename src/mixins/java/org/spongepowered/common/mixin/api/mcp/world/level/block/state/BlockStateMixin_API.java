@@ -36,9 +36,11 @@
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.common.block.BlockStateDataTable;
 import org.spongepowered.common.block.BlockStateSerializerDeserializer;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.bridge.data.CustomDataHolderBridge;
+import org.spongepowered.common.data.holder.DataBag;
 import org.spongepowered.common.util.Constants;
 
 import java.util.Optional;
@@ -49,6 +51,7 @@
 public abstract class BlockStateMixin_API extends BlockBehaviour_BlockStateBaseMixin_API {
 
     private String api$serializedState;
+    private BlockStateDataTable api$dataTable;
 
     @Override
     public int getContentVersion() {
@@ -99,6 +102,38 @@ public BlockState copy() {
         return this;
     }
 
+    @Override
+    public <E> Optional<E> get(final Key<? extends Value<E>> key) {
+        return this.api$getDataTable().get(key);
+    }
+
+    @Override
+    public <E, V extends Value<E>> Optional<V> getValue(final Key<V> key) {
+        return this.api$getDataTable().getValue(key, this.delegateDataHolder());
+    }
+
+    @Override
+    public boolean supports(final Key<?> key) {
+        return this.api$getDataTable().supports(key);
+    }
+
+    @Override
+    public DataBag readInto(final DataBag bag) {
+        return this.api$getDataTable().readInto(bag);
+    }
+
+    private BlockStateDataTable api$getDataTable() {
+        BlockStateDataTable table = this.api$dataTable;
+        if (table == null || !table.isCurrent()) {
+            if (table != null) {
+                table.replace();
+            }
+            table = BlockStateDataTable.build(this);
+            this.api$dataTable = table;
+        }
+        return table;
+    }
+
     public String impl$getSerializedString() {
         if (this.api$serializedState == null) {
             this.api$serializedState = BlockStateSerializerDeserializer.serialize(this);
@@ -26,8 +26,12 @@
 
 import com.google.common.collect.Sets;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.network.EngineConnection;
@@ -44,6 +48,7 @@
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 import net.minecraft.network.Connection;
@@ -56,6 +61,8 @@ public abstract class ConnectionMixin extends SimpleChannelInboundHandler<Packet
     @Shadow private PacketListener packetListener;
     @Shadow private Channel channel;
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean shadow$isConnected();
+    @Shadow private void shadow$flushQueue() { }
 
     private final TransactionStore impl$transactionStore = new TransactionStore(() -> (EngineConnection) this.packetListener);
     private final Set<ResourceKey> impl$registeredChannels = Sets.newConcurrentHashSet();
@@ -64,6 +71,7 @@ public abstract class ConnectionMixin extends SimpleChannelInboundHandler<Packet
     @Nullable private MinecraftVersion impl$version;
 
     private ClientType impl$clientType = ClientType.VANILLA;
+    private final AtomicInteger impl$pendingBytes = new AtomicInteger();
 
     @Override
     public TransactionStore bridge$getTransactionStore() {
@@ -126,4 +134,30 @@ public abstract class ConnectionMixin extends SimpleChannelInboundHandler<Packet
         this.impl$version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
 
+    @Override
+    public boolean bridge$writeWithoutFlush(final Packet<?> packet,
+            @Nullable final GenericFutureListener<? extends Future<? super Void>> listener, final int size, final int maxBytes) {
+        if (!this.shadow$isConnected()) {
+            return false;
+        }
+        this.shadow$flushQueue();
+        final ChannelFuture future = this.channel.write(packet);
+        if (listener != null) {
+            future.addListener(listener);
+        }
+        future.addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        // Count at least one byte per packet, so empty payloads still get flushed
+        if (this.impl$pendingBytes.addAndGet(Math.max(1, size)) >= maxBytes) {
+            this.bridge$flush();
+        }
+        return true;
+    }
+
+    @Override
+    public void bridge$flush() {
+        if (this.impl$pendingBytes.getAndSet(0) != 0 && this.channel != null) {
+            this.channel.flush();
+        }
+    }
+
 }
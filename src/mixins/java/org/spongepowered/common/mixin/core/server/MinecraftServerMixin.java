@@ -76,6 +76,7 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
@@ -158,6 +159,7 @@ public Subject getSubject() {
     @Inject(method = "tickServer", at = @At("TAIL"))
     private void impl$tickServerScheduler(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
         this.getScheduler().tick();
+        PacketSender.flushPending();
     }
 
     @Override
@@ -73,6 +73,7 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.entity.EntityCollisionTable;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -88,6 +89,7 @@
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -110,6 +112,8 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
 
     private boolean impl$isManualSave = false;
     protected WorldTimingsHandler impl$timings = new WorldTimingsHandler((ServerLevel) (Object) this);
+    private final EntityCollisionTable impl$entityCollisionTable =
+            new EntityCollisionTable(() -> ((ServerWorldInfoBridge) this.serverLevelData).bridge$configAdapter());
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void impl$cacheLevelSave(final MinecraftServer p_i241885_1_, final Executor p_i241885_2_, final LevelStorageSource.LevelStorageAccess p_i241885_3_,
@@ -122,6 +126,11 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
         this.impl$registerHolder = new SpongeRegistryHolder(((RegistryAccess.RegistryHolder) p_i241885_1_.registryAccess()));
     }
 
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void impl$saveDiscoveredCollisionTypes(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.impl$entityCollisionTable.saveIfDirty();
+    }
+
     @Redirect(method = "getSeed", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/storage/WorldData;worldGenSettings()Lnet/minecraft/world/level/levelgen/WorldGenSettings;"))
     public WorldGenSettings impl$onGetSeed(WorldData iServerConfiguration) {
         return ((PrimaryLevelData) this.serverLevelData).worldGenSettings();
@@ -337,6 +346,11 @@ public void save(@Nullable final ProgressListener progress, final boolean flush,
         return this.impl$timings;
     }
 
+    @Override
+    public EntityCollisionTable bridge$getEntityCollisionTable() {
+        return this.impl$entityCollisionTable;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(",", ServerLevel.class.getSimpleName() + "[", "]")
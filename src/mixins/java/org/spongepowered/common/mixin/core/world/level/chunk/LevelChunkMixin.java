@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.world.level.chunk;
 
 import com.google.common.base.MoreObjects;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.asm.mixin.Final;
@@ -33,13 +34,21 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.CacheKeyBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.PlayerBlockTracker;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.storage.ChunkBlockTracker;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.util.ClassInstanceMultiMap;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.ChunkPos;
@@ -83,6 +92,8 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
+    @Nullable private ChunkBlockTracker impl$blockTracker;
+    @Nullable private CompoundTag impl$pendingTrackerData;
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -123,56 +134,160 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
     }
 
 
-    // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
+    @Nullable
+    private ChunkBlockTracker impl$getBlockTracker(final boolean create) {
+        if (this.impl$pendingTrackerData != null) {
+            // Decode the positions read from disk on first use
+            this.impl$blockTracker = ChunkBlockTracker.read(this.impl$pendingTrackerData);
+            this.impl$pendingTrackerData = null;
+        }
+        if (this.impl$blockTracker == null && create) {
+            this.impl$blockTracker = new ChunkBlockTracker();
+        }
+        return this.impl$blockTracker;
+    }
+
+    private Optional<UUID> impl$getTrackedUUID(final BlockPos pos, final PlayerTracker.Type type) {
+        final ChunkBlockTracker tracker = this.impl$getBlockTracker(false);
+        return tracker == null ? Optional.empty() : Optional.ofNullable(tracker.get(pos, type));
+    }
+
+    private boolean impl$isTrackingEnabled(@Nullable final Block block) {
+        if (!((ServerWorldInfoBridge) this.level.getLevelData()).bridge$valid()) {
+            return false;
+        }
+        final PlayerBlockTracker config = ((ServerWorldInfoBridge) this.level.getLevelData()).bridge$configAdapter().get().playerBlockTracker;
+        if (!config.enabled) {
+            return false;
+        }
+        return block == null || !config.blockBlacklist.contains(Registry.BLOCK.getKey(block).toString());
+    }
+
+    private void impl$setTrackedUUID(final BlockPos pos, final PlayerTracker.Type type, @Nullable final UUID uuid) {
+        this.impl$setTrackedUUID(null, pos, type, uuid);
+    }
+
+    private void impl$setTrackedUUID(@Nullable final Block block, final BlockPos pos, final PlayerTracker.Type type, @Nullable final UUID uuid) {
+        if (this.level.isClientSide() || ((WorldBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        // Clearing is always allowed, so that disabling the tracker doesn't leave stale owners behind
+        if (uuid != null && !this.impl$isTrackingEnabled(block)) {
+            return;
+        }
+        final ChunkBlockTracker tracker = this.impl$getBlockTracker(uuid != null);
+        if (tracker != null && tracker.set(pos, type, uuid)) {
+            this.unsaved = true;
+        }
+    }
 
     @Override
     public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
+        this.impl$setTrackedUUID(block, pos, trackerType, user.getUniqueId());
+    }
+
+    @Override
+    public void bridge$removeTrackedBlockPosition(final BlockPos pos) {
+        final ChunkBlockTracker tracker = this.impl$getBlockTracker(false);
+        if (tracker != null && tracker.remove(pos)) {
+            this.unsaved = true;
+        }
+    }
+
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void impl$removeTrackedPositionOnBlockChange(final BlockPos pos, final BlockState state, final boolean isMoving,
+            final CallbackInfoReturnable<BlockState> cir) {
+        // Only reached by changes that don't go through the tracked chunk pipeline
+        @Nullable final BlockState previous = cir.getReturnValue();
+        if (previous != null && previous.getBlock() != state.getBlock()) {
+            this.bridge$removeTrackedBlockPosition(pos);
+        }
     }
 
     @Override
     public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
+        final ChunkBlockTracker tracker = this.impl$getBlockTracker(false);
+        return tracker == null ? Collections.emptyMap() : tracker.getIntPositions();
     }
 
     @Override
     public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+        final ChunkBlockTracker tracker = this.impl$getBlockTracker(false);
+        return tracker == null ? Collections.emptyMap() : tracker.getShortPositions();
     }
 
     @Override
     public Optional<User> bridge$getBlockCreator(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockCreatorUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-        return Optional.empty();
+        return this.impl$getTrackedUUID(pos, PlayerTracker.Type.CREATOR);
     }
 
     @Override
     public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockNotifierUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return Optional.empty();
+        return this.impl$getTrackedUUID(pos, PlayerTracker.Type.NOTIFIER);
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
+        this.impl$setTrackedUUID(pos, PlayerTracker.Type.NOTIFIER, uuid);
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
+        this.impl$setTrackedUUID(pos, PlayerTracker.Type.CREATOR, uuid);
     }
 
     @Override
     public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
+        this.impl$getBlockTracker(true).setIntPositions(trackedPositions);
     }
 
     @Override
     public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
+        this.impl$getBlockTracker(true).setShortPositions(trackedPositions);
+    }
+
+    @Override
+    public void bridge$readTrackedPositions(final CompoundTag compound) {
+        this.impl$blockTracker = null;
+        this.impl$pendingTrackerData = compound;
+    }
+
+    @Override
+    public void bridge$writeTrackedPositions(final CompoundTag compound) {
+        if (this.impl$pendingTrackerData != null) {
+            // Never decoded, so nothing changed since it was read
+            compound.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, this.impl$pendingTrackerData.get(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE));
+            compound.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, this.impl$pendingTrackerData.get(Constants.Sponge.SPONGE_BLOCK_POS_TABLE));
+        } else if (this.impl$blockTracker != null && !this.impl$blockTracker.isEmpty()) {
+            this.impl$blockTracker.write(compound);
+        }
+    }
+
+    @Override
+    public int bridge$getTrackedPositionCount() {
+        if (this.impl$pendingTrackerData != null) {
+            return this.impl$pendingTrackerData.getIntArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE).length / 2;
+        }
+        return this.impl$blockTracker == null ? 0 : this.impl$blockTracker.size();
+    }
+
+    @Override
+    public long bridge$getTrackedPositionsSize() {
+        // Don't decode pending positions just to measure them
+        if (this.impl$pendingTrackerData != null) {
+            return ChunkBlockTracker.getEstimatedSize(this.impl$pendingTrackerData);
+        }
+        return this.impl$blockTracker == null ? 0 : this.impl$blockTracker.getEstimatedSize();
     }
 
 
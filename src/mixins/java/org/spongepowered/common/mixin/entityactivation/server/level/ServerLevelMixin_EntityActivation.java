@@ -0,0 +1,62 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entityactivation.server.level;
+
+import net.minecraft.server.level.ServerLevel;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.entity.activation.EntityActivationRange;
+
+import java.util.function.BooleanSupplier;
+
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin_EntityActivation {
+
+    private @Nullable InheritableConfigHandle<WorldConfig> entityActivation$config;
+    private int entityActivation$loadCount;
+    private int entityActivation$maxRange;
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void entityActivation$activateEntities(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        final ServerWorldInfoBridge infoBridge = (ServerWorldInfoBridge) ((ServerLevel) (Object) this).getLevelData();
+        if (!infoBridge.bridge$valid()) {
+            return;
+        }
+        // The max range is only resolved again once the config is reloaded
+        final InheritableConfigHandle<WorldConfig> config = infoBridge.bridge$configAdapter();
+        if (config != this.entityActivation$config || config.getLoadCount() != this.entityActivation$loadCount) {
+            this.entityActivation$config = config;
+            this.entityActivation$loadCount = config.getLoadCount();
+            this.entityActivation$maxRange = EntityActivationRange.getMaxActivationRange(config.get().entityActivationRange);
+        }
+        EntityActivationRange.activateEntities((ServerLevel) (Object) this, this.entityActivation$maxRange);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entityactivation.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.entity.activation.EntityActivationRange;
+
+@Mixin(Entity.class)
+public abstract class EntityMixin_EntityActivation implements ActivationCapabilityBridge {
+
+    @Shadow public int tickCount;
+    @Shadow public Level level;
+
+    private boolean entityActivation$refreshCache = true;
+    // The config the activation state was resolved from
+    private @Nullable InheritableConfigHandle<WorldConfig> entityActivation$config;
+    private int entityActivation$configLoadCount;
+    private boolean entityActivation$defaultActivationState = true;
+    private long entityActivation$activatedTick = Integer.MIN_VALUE;
+    private byte entityActivation$activationType;
+    private int entityActivation$activationRange;
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void entityActivation$initActivationType(final EntityType<?> type, final Level level, final CallbackInfo ci) {
+        this.entityActivation$activationType = EntityActivationRange.getActivationType((Entity) (Object) this);
+    }
+
+    @Override
+    public final void activation$incrementSpongeTicksExisted() {
+        this.tickCount++;
+    }
+
+    @Override
+    public int activation$getSpongeTicksExisted() {
+        // Entities keep counting their age while inactive, see activation$inactiveTick
+        return this.tickCount;
+    }
+
+    @Override
+    public void activation$inactiveTick() {
+        // Keep the age of the entity going, like the tick would
+        this.tickCount++;
+    }
+
+    @Override
+    public byte activation$getActivationType() {
+        return this.entityActivation$activationType;
+    }
+
+    @Override
+    public long activation$getActivatedTick() {
+        return this.entityActivation$activatedTick;
+    }
+
+    @Override
+    public boolean activation$getDefaultActivationState() {
+        return this.entityActivation$defaultActivationState;
+    }
+
+    @Override
+    public void activation$setDefaultActivationState(final boolean defaultState) {
+        this.entityActivation$defaultActivationState = defaultState;
+    }
+
+    @Override
+    public void activation$setActivatedTick(final long tick) {
+        this.entityActivation$activatedTick = tick;
+    }
+
+    @Override
+    public int activation$getSpongeTickRate() {
+        // Entities are activated by range, they aren't ticked at a rate like block entities
+        return 1;
+    }
+
+    @Override
+    public void activation$setSpongeTickRate(final int tickRate) {
+    }
+
+    @Override
+    public int activation$getActivationRange() {
+        return this.entityActivation$activationRange;
+    }
+
+    @Override
+    public void activation$setActivationRange(final int range) {
+        this.entityActivation$activationRange = range;
+    }
+
+    @Override
+    public void activation$requiresActivationCacheRefresh(final boolean flag) {
+        this.entityActivation$refreshCache = flag;
+        if (!flag) {
+            this.entityActivation$config = this.entityActivation$getConfig();
+            this.entityActivation$configLoadCount = this.entityActivation$config == null ? 0 : this.entityActivation$config.getLoadCount();
+        }
+    }
+
+    @Override
+    public boolean activation$requiresActivationCacheRefresh() {
+        if (this.entityActivation$refreshCache) {
+            return true;
+        }
+        // Resolve the state again after a config reload or a move to another world
+        final @Nullable InheritableConfigHandle<WorldConfig> config = this.entityActivation$getConfig();
+        return config != this.entityActivation$config || config != null && config.getLoadCount() != this.entityActivation$configLoadCount;
+    }
+
+    private @Nullable InheritableConfigHandle<WorldConfig> entityActivation$getConfig() {
+        if (this.level == null || !(this.level.getLevelData() instanceof ServerWorldInfoBridge)) {
+            return null;
+        }
+        final ServerWorldInfoBridge infoBridge = (ServerWorldInfoBridge) this.level.getLevelData();
+        return infoBridge.bridge$valid() ? infoBridge.bridge$configAdapter() : null;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entityactivation.world.entity.item;
+
+import net.minecraft.world.entity.item.ItemEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.mixin.entityactivation.world.entity.EntityMixin_EntityActivation;
+
+@Mixin(ItemEntity.class)
+public abstract class ItemEntityMixin_EntityActivation extends EntityMixin_EntityActivation {
+
+    @Shadow private int pickupDelay;
+    @Shadow private int age;
+
+    private @Nullable InheritableConfigHandle<WorldConfig> entityActivation$despawnConfig;
+    private int entityActivation$despawnLoadCount;
+    private int entityActivation$despawnRate;
+
+    @Override
+    public void activation$inactiveTick() {
+        super.activation$inactiveTick();
+        // Items far away from players still have to despawn
+        if (this.pickupDelay > 0 && this.pickupDelay != 32767) {
+            --this.pickupDelay;
+        }
+        if (this.age != -32768) {
+            ++this.age;
+        }
+        if (this.age >= this.entityActivation$getDespawnRate()) {
+            ((ItemEntity) (Object) this).remove();
+        }
+    }
+
+    private int entityActivation$getDespawnRate() {
+        // The despawn rate is only resolved again once the config is reloaded or the item changed worlds
+        final InheritableConfigHandle<WorldConfig> config = SpongeGameConfigs.getForWorld(this.level);
+        if (config != this.entityActivation$despawnConfig || config.getLoadCount() != this.entityActivation$despawnLoadCount) {
+            this.entityActivation$despawnConfig = config;
+            this.entityActivation$despawnLoadCount = config.getLoadCount();
+            this.entityActivation$despawnRate = config.get().entity.item.despawnRate;
+        }
+        return this.entityActivation$despawnRate;
+    }
+}
@@ -26,61 +26,56 @@
 
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.applaunch.config.common.CommonConfig;
-import org.spongepowered.common.applaunch.config.core.ConfigHandle;
-import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
-import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
-import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
-import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
 
 @Mixin(value = net.minecraft.world.entity.Entity.class, priority = 1002)
 public abstract class EntityMixin_EntityCollision implements CollisionCapabilityBridge {
 
+    private static final int UNSET_MAX_COLLISIONS = Integer.MIN_VALUE;
+
     @Shadow public abstract net.minecraft.world.level.Level shadow$getCommandSenderWorld();
 
-    private ResourceKey entityCollision$key;
-    private int entityCollision$maxCollisions = 8;
+    private @Nullable ResourceKey entityCollision$key;
+    private int entityCollision$maxCollisions = EntityMixin_EntityCollision.UNSET_MAX_COLLISIONS;
     private boolean entityCollision$refreshCache = false;
 
-    @Inject(method = "<init>", at = @At("RETURN"))
-    private void collisions$InjectActivationInformation(net.minecraft.world.entity.EntityType<?> type, net.minecraft.world.level.Level world, CallbackInfo ci) {
-        if (world != null && !((WorldBridge) world).bridge$isFake() && ((ServerWorldInfoBridge) world.getLevelData()).bridge$valid()) {
+    @Override
+    public ResourceKey collision$getKey() {
+        if (this.entityCollision$key == null) {
+            // Resolved on first use, items only get their stack after being constructed
             if ((net.minecraft.world.entity.Entity) (Object) this instanceof ItemEntity) {
-                final ItemEntity item = (ItemEntity) (Object) this;
-                final ItemStack itemstack = item.getItem();
-                if (!itemstack.isEmpty()) {
-                    this.entityCollision$key =
-                            Sponge.getGame().registries().registry(RegistryTypes.ITEM_TYPE).valueKey(((org.spongepowered.api.item.inventory.ItemStack) (Object) itemstack).getType());
+                final ItemStack itemstack = ((ItemEntity) (Object) this).getItem();
+                if (itemstack.isEmpty()) {
+                    return Sponge.getGame().registries().registry(RegistryTypes.ENTITY_TYPE).valueKey(((Entity) this).getType());
                 }
+                this.entityCollision$key = Sponge.getGame().registries().registry(RegistryTypes.ITEM_TYPE)
+                        .valueKey(((org.spongepowered.api.item.inventory.ItemStack) (Object) itemstack).getType());
             } else {
                 this.entityCollision$key = Sponge.getGame().registries().registry(RegistryTypes.ENTITY_TYPE).valueKey(((Entity) this).getType());
             }
-            if (!this.shadow$getCommandSenderWorld().isClientSide()) {
-                this.collision$initializeCollisionState(this.shadow$getCommandSenderWorld());
-            }
         }
-    }
-
-    @Override
-    public ResourceKey collision$getKey() {
         return this.entityCollision$key;
     }
 
     @Override
     public int collision$getMaxCollisions() {
-        return this.entityCollision$maxCollisions;
+        if (this.entityCollision$maxCollisions != EntityMixin_EntityCollision.UNSET_MAX_COLLISIONS) {
+            return this.entityCollision$maxCollisions;
+        }
+        final net.minecraft.world.level.Level world = this.shadow$getCommandSenderWorld();
+        if (world.isClientSide() || ((WorldBridge) world).bridge$isFake() || !(world instanceof ServerWorldBridge)) {
+            return -1;
+        }
+        return ((ServerWorldBridge) world).bridge$getEntityCollisionTable().getEntityMaxCollisions(this.collision$getKey());
     }
 
     @Override
@@ -90,60 +85,8 @@ public abstract class EntityMixin_EntityCollision implements CollisionCapability
 
     @Override
     public void collision$initializeCollisionState(final net.minecraft.world.level.Level world) {
-        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter();
-        final ConfigHandle<CommonConfig> globalConfigAdapter = SpongeConfigs.getCommon();
-        final EntityCollisionCategory.ModSubCategory worldCollMod =
-                worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(this.entityCollision$key.getNamespace()),
-                c -> {
-                    // TODO: save after populating?
-                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(this.entityCollision$key.getNamespace());
-                    c.entityCollision.mods.put(this.entityCollision$key.getNamespace(), globalCollision);
-                    globalCollision.entities.put(this.entityCollision$key.getNamespace(), this.collision$getMaxCollisions());
-                }, worldConfigAdapter.get().entityCollision.autoPopulate);
-        final EntityCollisionCategory worldCollCat = worldConfigAdapter.get().entityCollision;
-
-        this.collision$setMaxCollisions(worldCollCat.maxEntitiesWithinAABB);
-
-        boolean requiresSave = false;
-        if (worldCollMod != null) {
-            if (!worldCollMod.enabled) {
-                this.collision$setMaxCollisions(-1);
-                return;
-            }
-            // check mod overrides
-            final Integer modCollisionMax = worldCollMod.entityDefault;
-            if (modCollisionMax != null) {
-                this.collision$setMaxCollisions(modCollisionMax);
-            }
-
-            Integer entityMaxCollision = null;
-            if ((net.minecraft.world.entity.Entity) (Object) this instanceof ItemEntity) {
-                // check if all items are overridden
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.getValue());
-            }
-
-            if (entityMaxCollision == null) {
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.getValue());
-            }
-
-            // entity overrides
-            if (entityMaxCollision == null && worldCollCat.autoPopulate) {
-                // TODO(zml): Populate better
-                //globalCollMod.getEntityList().put(this.entityCollision$key.getValue(), this.collision$getMaxCollisions());
-                requiresSave = true;
-            } else if (entityMaxCollision != null) {
-                this.collision$setMaxCollisions(entityMaxCollision);
-            }
-        }
-
-        // don't bother saving for negative values
-        if (this.collision$getMaxCollisions() <= 0) {
-            return;
-        }
-
-        if (requiresSave) {
-            globalConfigAdapter.save();
-        }
+        // Drop any override, the limit is then looked up in the collision table of the world
+        this.entityCollision$maxCollisions = EntityMixin_EntityCollision.UNSET_MAX_COLLISIONS;
     }
 
     @Override
@@ -67,18 +67,21 @@ public abstract class LivingEntityMixin_EntityCollision extends EntityMixin_Enti
     // This injection allows maxEntityCramming to be applied first before checking for max collisions
     @Redirect(method = "pushEntities", at = @At(value = "INVOKE", target = "Ljava/util/List;size()I", remap = false))
     private int collisions$pushEntities(final List<Entity> list) {
+        if (this.shadow$getCommandSenderWorld().isClientSide()) {
+            return 0;
+        }
+        if (this.collision$requiresCollisionsCacheRefresh()) {
+            this.collision$initializeCollisionState(this.shadow$getCommandSenderWorld());
+            this.collision$requiresCollisionsCacheRefresh(false);
+        }
+        final int maxCollisions = this.collision$getMaxCollisions();
         for (final Entity entity: list) {
             // ignore players and entities with parts (ex. EnderDragon)
-            if (this.shadow$getCommandSenderWorld().isClientSide() || entity == null || entity instanceof Player || entity instanceof EnderDragon) {
+            if (entity == null || entity instanceof Player || entity instanceof EnderDragon) {
                 continue;
             }
 
-            if (this.collision$requiresCollisionsCacheRefresh()) {
-                this.collision$initializeCollisionState(this.shadow$getCommandSenderWorld());
-                this.collision$requiresCollisionsCacheRefresh(false);
-            }
-
-            if (this.collision$getMaxCollisions() >= 0 && list.size() >= this.collision$getMaxCollisions()) {
+            if (maxCollisions >= 0 && list.size() >= maxCollisions) {
                 // Don't process any more collisions
                 break;
             }
@@ -25,29 +25,28 @@
 package org.spongepowered.common.mixin.entitycollision.world.level.block;
 
 import net.minecraft.world.level.block.Block;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.common.applaunch.config.core.ConfigHandle;
-import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
-import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
-import org.spongepowered.common.applaunch.config.common.CommonConfig;
-import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
-import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 
 @Mixin(Block.class)
 public abstract class BlockMixin_EntityCollision implements CollisionCapabilityBridge {
 
+    private @Nullable ResourceKey entityCollision$key;
     private int entityCollision$maxCollisions = 8;
     private boolean entityCollision$refreshCache = true;
 
     @Override
     public ResourceKey collision$getKey() {
-        return Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE).valueKey((BlockType) this);
+        if (this.entityCollision$key == null) {
+            this.entityCollision$key = Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE).valueKey((BlockType) this);
+        }
+        return this.entityCollision$key;
     }
 
     @Override
@@ -72,54 +71,8 @@ public abstract class BlockMixin_EntityCollision implements CollisionCapabilityB
 
     @Override
     public void collision$initializeCollisionState(final net.minecraft.world.level.Level world) {
-        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter();
-        final ConfigHandle<CommonConfig> globalConfigAdapter = SpongeConfigs.getCommon();
-        final EntityCollisionCategory worldCollCat = worldConfigAdapter.get().entityCollision;
-
-        this.collision$setMaxCollisions(worldCollCat.maxEntitiesWithinAABB);
-
-        boolean requiresSave = false;
-        Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE).valueKey((BlockType) this);
-
-        String[] ids = Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE).valueKey((BlockType) this).toString().split(":");
-        String modId = ids[0];
-        String name = ids[1];
-
-        final EntityCollisionCategory.ModSubCategory worldCollMod = worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(modId),
-                c -> {
-                // TODO: finish after populating?
-                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(modId);
-                    c.entityCollision.mods.put(modId, globalCollision);
-                    globalCollision.blocks.put(name, this.collision$getMaxCollisions());
-                }, worldCollCat.autoPopulate);
-        if (worldCollMod != null) {
-            if (!worldCollMod.enabled) {
-                this.collision$setMaxCollisions(-1);
-                return;
-            }
-            // check mod overrides
-            Integer modCollisionMax = worldCollMod.blockDefault;
-            if (modCollisionMax != null) {
-                this.collision$setMaxCollisions(modCollisionMax);
-            }
-
-            // entity overrides
-            Integer blockMaxCollision = worldCollMod.blocks.get(name);
-            if (blockMaxCollision == null && worldCollCat.autoPopulate) {
-                worldCollMod.blocks.put(name, this.collision$getMaxCollisions());
-                requiresSave = true;
-            } else if (blockMaxCollision != null) {
-                this.collision$setMaxCollisions(blockMaxCollision);
-            }
-        }
-
-        // don't bother saving for negative values
-        if (this.collision$getMaxCollisions() <= 0) {
-            return;
-        }
-
-        if (requiresSave) {
-            globalConfigAdapter.save();
+        if (world instanceof ServerWorldBridge) {
+            this.collision$setMaxCollisions(((ServerWorldBridge) world).bridge$getEntityCollisionTable().getBlockMaxCollisions(this.collision$getKey()));
         }
     }
 }
@@ -33,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -44,6 +45,7 @@
 import net.minecraft.world.entity.boss.enderdragon.EnderDragon;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 
@@ -52,6 +54,12 @@ public abstract class LevelChunkMixin_EntityCollision {
 
     @Shadow public abstract Level shadow$getLevel();
 
+    // The limit is resolved by the first entity added to a query and kept
+    // for as long as the same result list is filled. A nested query uses
+    // another list, so the outer query resolves its limit again afterwards.
+    private @Nullable List<?> entityCollision$query;
+    private int entityCollision$limit = -1;
+
     @Inject(method = "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     private void collisionsImpl$checkForCollisionRules(final @Nullable Entity entity,
@@ -59,16 +67,12 @@ public abstract class LevelChunkMixin_EntityCollision {
             final List<Entity> entities,
             final Predicate<? super Entity> filter,
             final CallbackInfo ci) {
-        // ignore players and entities with parts (ex. EnderDragon)
-        if (this.shadow$getLevel().isClientSide() || entities == null || entity instanceof Player || entity instanceof EnderDragon) {
-            return;
-        }
-        // Run hook in LivingEntity to support maxEntityCramming
-        if (entity instanceof LivingEntity && ((CollisionCapabilityBridge) entity).collision$isRunningCollideWithNearby()) {
-            return;
+        if (this.entityCollision$query != entities) {
+            this.entityCollision$query = entities;
+            this.entityCollision$limit = this.entityCollision$getCollisionLimit(entity);
         }
-
-        if (!this.entityCollision$allowEntityCollision(entities)) {
+        if (this.entityCollision$limit >= 0 && entities.size() >= this.entityCollision$limit) {
+            this.entityCollision$query = null;
             ci.cancel();
         }
     }
@@ -77,52 +81,79 @@ public abstract class LevelChunkMixin_EntityCollision {
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     private <T extends Entity> void collisionsImpl$checkForCollisionRules(final Class<? extends T> entityClass, final AABB bb,
             final List<T> entities, final Predicate<? super T> filter, final CallbackInfo ci) {
+        if (this.entityCollision$query != entities) {
+            this.entityCollision$query = entities;
+            this.entityCollision$limit = this.entityCollision$getCollisionLimit(entityClass);
+        }
+        if (this.entityCollision$limit >= 0 && entities.size() >= this.entityCollision$limit) {
+            this.entityCollision$query = null;
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = {
+            "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+            "getEntitiesOfClass"
+        }, at = @At("RETURN"))
+    private void collisionsImpl$clearCollisionQuery(final CallbackInfo ci) {
+        // Don't keep the result list of the query alive
+        this.entityCollision$query = null;
+    }
+
+    private int entityCollision$getCollisionLimit(final @Nullable Entity entity) {
+        // ignore players and entities with parts (ex. EnderDragon)
+        if (this.shadow$getLevel().isClientSide() || entity instanceof Player || entity instanceof EnderDragon) {
+            return -1;
+        }
+        if (entity instanceof LivingEntity && ((CollisionCapabilityBridge) entity).collision$isRunningCollideWithNearby()) {
+            // Collect enough entities for maxEntityCramming to still apply
+            final int maxCollisions = ((CollisionCapabilityBridge) entity).collision$getMaxCollisions();
+            final int maxCramming = this.shadow$getLevel().getGameRules().getInt(GameRules.RULE_MAX_ENTITY_CRAMMING);
+            return maxCollisions < 0 ? -1 : Math.max(maxCollisions, maxCramming);
+        }
+        return this.entityCollision$getCollisionLimit();
+    }
+
+    private int entityCollision$getCollisionLimit(final Class<? extends Entity> entityClass) {
         // ignore player checks
         // ignore item check (ex. Hoppers)
         if (this.shadow$getLevel().isClientSide() || Player.class.isAssignableFrom(entityClass) || ItemEntity.class == entityClass) {
-            return;
-        }
-
-        if (!this.entityCollision$allowEntityCollision(entities)) {
-            ci.cancel();
+            return -1;
         }
+        return this.entityCollision$getCollisionLimit();
     }
 
-    private <T extends Entity> boolean entityCollision$allowEntityCollision(final List<T> entities) {
+    /**
+     * Gets the maximum amount of entities the current source of the phase
+     * may collide with, resolved once per query instead of once per entity.
+     *
+     * @return The limit, or a negative value if unlimited
+     */
+    private int entityCollision$getCollisionLimit() {
         if (((WorldBridge) this.shadow$getLevel()).bridge$isFake()) {
-            return true;
+            return -1;
         }
 
-        if (PhaseTracker.getInstance().getPhaseContext().isCollision()) {
+        final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getPhaseContext();
+        if (phaseContext.isCollision()) {
             // allow explosions
-            return true;
+            return -1;
         }
 
-        final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getPhaseContext();
         final Object source = phaseContext.getSource();
-        if (source == null) {
-            return true;
-        }
-
-        CollisionCapabilityBridge collisionBridge = null;
-
         if (source instanceof LocatableBlock) {
-            final LocatableBlock locatable = (LocatableBlock) source;
-            final BlockType blockType = locatable.getLocation().getBlock().getType();
-            collisionBridge = (CollisionCapabilityBridge) blockType;
-        } else if (source instanceof CollisionCapabilityBridge) {
-            collisionBridge = (CollisionCapabilityBridge) source;
+            final BlockType blockType = ((LocatableBlock) source).getLocation().getBlock().getType();
+            return ((ServerWorldBridge) this.shadow$getLevel()).bridge$getEntityCollisionTable()
+                    .getBlockMaxCollisions(((CollisionCapabilityBridge) blockType).collision$getKey());
         }
-
-        if (collisionBridge == null) {
-            return true;
+        if (source instanceof CollisionCapabilityBridge) {
+            final CollisionCapabilityBridge collisionBridge = (CollisionCapabilityBridge) source;
+            if (collisionBridge.collision$requiresCollisionsCacheRefresh()) {
+                collisionBridge.collision$initializeCollisionState(this.shadow$getLevel());
+                collisionBridge.collision$requiresCollisionsCacheRefresh(false);
+            }
+            return collisionBridge.collision$getMaxCollisions();
         }
-
-        if (collisionBridge.collision$requiresCollisionsCacheRefresh()) {
-            collisionBridge.collision$initializeCollisionState(this.shadow$getLevel());
-            collisionBridge.collision$requiresCollisionsCacheRefresh(false);
-        }
-
-        return !((collisionBridge.collision$getMaxCollisions() >= 0) && (entities.size() >= collisionBridge.collision$getMaxCollisions()));
+        return -1;
     }
 }
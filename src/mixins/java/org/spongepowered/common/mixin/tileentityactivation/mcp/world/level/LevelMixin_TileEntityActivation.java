@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.tileentityactivation.mcp.world.level;
+
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.storage.WritableLevelData;
+import org.objectweb.asm.Opcodes;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.block.entity.BlockEntityTickWheel;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+
+import java.util.Iterator;
+import java.util.List;
+
+@Mixin(Level.class)
+public abstract class LevelMixin_TileEntityActivation {
+
+    // @formatter:off
+    @Shadow @Final @Mutable public final List<BlockEntity> tickableBlockEntities = new BlockEntityTickWheel();
+    @Shadow @Final public boolean isClientSide;
+    @Shadow @Final protected WritableLevelData levelData;
+    // @formatter:on
+
+    @Redirect(method = "tickBlockEntities",
+        at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false),
+        slice = @Slice(from = @At(value = "FIELD", target = "Lnet/minecraft/world/level/Level;updatingBlockEntities:Z", opcode = Opcodes.PUTFIELD)))
+    private Iterator<BlockEntity> tileEntityActivation$iterateDueBlockEntities(final List<BlockEntity> list) {
+        if (this.isClientSide || ((WorldBridge) this).bridge$isFake() || !(list instanceof BlockEntityTickWheel)
+                || !((ServerWorldInfoBridge) this.levelData).bridge$valid()) {
+            return list.iterator();
+        }
+        return ((BlockEntityTickWheel) list).iterator(SpongeCommon.getServer().getTickCount(),
+                ((ServerWorldInfoBridge) this.levelData).bridge$configAdapter());
+    }
+
+    @Inject(method = "tickBlockEntities", at = @At("RETURN"))
+    private void tileEntityActivation$saveDiscoveredTickRates(final CallbackInfo ci) {
+        if (this.tickableBlockEntities instanceof BlockEntityTickWheel) {
+            ((BlockEntityTickWheel) this.tickableBlockEntities).saveIfDirty();
+        }
+    }
+}
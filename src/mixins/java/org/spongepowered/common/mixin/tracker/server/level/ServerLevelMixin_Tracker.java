@@ -61,6 +61,7 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -143,6 +144,8 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final private List<ServerPlayer> players;
     // @formatting:on
 
+    private boolean tracker$applyingUntrackedChange = false;
+
 
     @Inject(method = "add", at = @At("TAIL"))
     private void tracker$setEntityTrackedInWorld(final net.minecraft.world.entity.Entity entityIn, final CallbackInfo ci) {
@@ -513,6 +516,16 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
         if (instance.getSidedThread() != PhaseTracker.SERVER.getSidedThread() && instance != PhaseTracker.SERVER) {
             throw new UnsupportedOperationException("Cannot perform a tracked Block Change on a ServerWorld while not on the main thread!");
         }
+        final PhaseContext<@NonNull ?> context = instance.getPhaseContext();
+        if (this.tracker$canSkipTransactions(context)) {
+            final boolean wasApplyingUntracked = this.tracker$applyingUntrackedChange;
+            this.tracker$applyingUntrackedChange = true;
+            try {
+                return super.setBlock(pos, newState, flags, limit);
+            } finally {
+                this.tracker$applyingUntrackedChange = wasApplyingUntracked;
+            }
+        }
         final SpongeBlockChangeFlag spongeFlag = BlockChangeFlagManager.fromNativeInt(flags);
 
         final LevelChunk chunk = this.shadow$getChunkAt(pos);
@@ -524,7 +537,7 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
             .addEffect(WorldBlockChangeCompleteEffect.getInstance())
             .build();
 
-        return pipeline.processEffects(instance.getPhaseContext(), currentState, newState, pos, null, spongeFlag, limit);
+        return pipeline.processEffects(context, currentState, newState, pos, null, spongeFlag, limit);
     }
 
     @Override
@@ -541,6 +554,10 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             if (instance.getSidedThread() != PhaseTracker.SERVER.getSidedThread() && instance != PhaseTracker.SERVER) {
                 throw new UnsupportedOperationException("Cannot perform a tracked Block Change on a ServerWorld while not on the main thread!");
             }
+            if (this.tracker$canSkipTransactions(instance.getPhaseContext())) {
+                // Vanilla routes the removal back through setBlock, which stays untracked
+                return super.destroyBlock(pos, doDrops, p_241212_3_, limit);
+            }
             final FluidState fluidstate = this.shadow$getFluidState(pos);
             final BlockState emptyBlock = fluidstate.createLegacyBlock();
             final SpongeBlockChangeFlag spongeFlag = BlockChangeFlagManager.fromNativeInt(3);
@@ -564,6 +581,26 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         }
     }
 
+    /**
+     * Tracking-lite worlds apply block changes through vanilla as long as no
+     * listener could observe a {@link org.spongepowered.api.event.block.ChangeBlockEvent}.
+     * The {@link ShouldFire} flag is checked on every change so that tracking
+     * resumes as soon as such a listener is registered. Changes are never
+     * bypassed while the current context still has captured transactions
+     * waiting, otherwise they would be applied out of order.
+     */
+    private boolean tracker$canSkipTransactions(final PhaseContext<@NonNull ?> context) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT || context.hasBlockTransactions()) {
+            return false;
+        }
+        return ((ServerWorldInfoBridge) this.levelData).bridge$configAdapter().get().world.trackingLite;
+    }
+
+    @Override
+    public boolean bridge$isApplyingUntrackedChange() {
+        return this.tracker$applyingUntrackedChange;
+    }
+
     @Override
     public SpongeBlockSnapshot bridge$createSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
         final BlockChangeFlag updateFlag
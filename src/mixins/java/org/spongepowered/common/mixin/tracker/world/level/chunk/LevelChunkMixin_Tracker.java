@@ -39,6 +39,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.block.BlockStateBridge;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
@@ -91,7 +92,7 @@ public abstract class LevelChunkMixin_Tracker implements TrackedChunkBridge {
     private void tracker$sanityCheckServerWorldSetBlockState(final BlockPos pos, final BlockState state, final boolean isMoving,
         final CallbackInfoReturnable<BlockState> cir
     ) {
-        if (!((WorldBridge) this.level).bridge$isFake()) {
+        if (!((WorldBridge) this.level).bridge$isFake() && !((TrackedWorldBridge) this.level).bridge$isApplyingUntrackedChange()) {
             new PrettyPrinter(80).add("Illegal Direct Chunk Access")
                 .hr()
                 .add(new IllegalAccessException("No one should be accessing Chunk.setBlock in a ServerWorld's environment"))
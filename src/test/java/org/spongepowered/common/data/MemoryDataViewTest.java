@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemoryDataViewTest {
+
+    private static final DataQuery VALUE = DataQuery.of("value");
+    private static final DataQuery CHILD = DataQuery.of("child");
+
+    private static DataContainer lazyContainer(final AtomicInteger loads) {
+        return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, view -> {
+            loads.incrementAndGet();
+            view.set(MemoryDataViewTest.VALUE, 1);
+            ((MemoryDataView) view).createLazyView("child", child -> {
+                loads.incrementAndGet();
+                child.set(MemoryDataViewTest.VALUE, 2);
+            });
+        });
+    }
+
+    @Test
+    public void testLazyLoad() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DataContainer container = MemoryDataViewTest.lazyContainer(loads);
+        assertEquals(0, loads.get());
+
+        assertEquals(1, container.getInt(MemoryDataViewTest.VALUE).getAsInt());
+        assertEquals(1, loads.get());
+        assertTrue(container.contains(MemoryDataViewTest.CHILD));
+        assertEquals(1, loads.get());
+
+        assertEquals(2, container.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(2, loads.get());
+        assertEquals(2, container.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testSetFromLazyView() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DataContainer source = MemoryDataViewTest.lazyContainer(loads);
+        final DataContainer target = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+
+        target.set(MemoryDataViewTest.CHILD, source);
+        assertEquals(0, loads.get());
+
+        // The copy is taken when it's set, so later changes to the source don't show up in it
+        source.set(MemoryDataViewTest.VALUE, 3);
+        source.remove(MemoryDataViewTest.CHILD);
+        assertEquals(1, loads.get());
+
+        final DataView child = target.getView(MemoryDataViewTest.CHILD).get();
+        assertEquals(1, child.getInt(MemoryDataViewTest.VALUE).getAsInt());
+        assertEquals(2, child.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(3, source.getInt(MemoryDataViewTest.VALUE).getAsInt());
+        assertFalse(source.contains(MemoryDataViewTest.CHILD));
+    }
+
+    @Test
+    public void testCopy() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DataContainer container = MemoryDataViewTest.lazyContainer(loads);
+        final DataContainer copy = container.copy();
+        // Copying loads the top level, the child view stays lazy in both
+        assertEquals(1, loads.get());
+
+        container.set(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE), 4);
+        assertEquals(2, loads.get());
+
+        assertEquals(2, copy.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(4, container.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testMutationAfterCreation() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DataContainer container = MemoryDataViewTest.lazyContainer(loads);
+
+        // Writing loads the view first, so the loader can't overwrite the new value later on
+        container.set(MemoryDataViewTest.VALUE, 5);
+        assertEquals(1, loads.get());
+        assertEquals(5, container.getInt(MemoryDataViewTest.VALUE).getAsInt());
+
+        container.set(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE), 6);
+        assertEquals(2, loads.get());
+        assertEquals(6, container.getInt(MemoryDataViewTest.CHILD.then(MemoryDataViewTest.VALUE)).getAsInt());
+        assertEquals(2, loads.get());
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+public class BinaryDataFormatTest {
+
+    private static final BinaryDataFormat BINARY = new BinaryDataFormat();
+
+    private static byte[] write(final DataView view) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDataFormatTest.BINARY.writeTo(out, view);
+        return out.toByteArray();
+    }
+
+    private static DataContainer read(final byte[] bytes) throws IOException {
+        return BinaryDataFormatTest.BINARY.readFrom(new ByteArrayInputStream(bytes));
+    }
+
+    private static DataContainer roundTrip(final DataView view) throws IOException {
+        return BinaryDataFormatTest.read(BinaryDataFormatTest.write(view));
+    }
+
+    @Test
+    void testVarIntEdgeValues() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        final int[] ints = {0, -1, 1, 63, -64, 64, -65, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        final long[] longs = {0L, -1L, 1L, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (int i = 0; i < ints.length; i++) {
+            container.set(DataQuery.of("int" + i), ints[i]);
+        }
+        for (int i = 0; i < longs.length; i++) {
+            container.set(DataQuery.of("long" + i), longs[i]);
+        }
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+        for (int i = 0; i < ints.length; i++) {
+            assertEquals(ints[i], read.get(DataQuery.of("int" + i)).get());
+        }
+        for (int i = 0; i < longs.length; i++) {
+            assertEquals(longs[i], read.get(DataQuery.of("long" + i)).get());
+        }
+    }
+
+    @Test
+    void testPlainValues() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("boolean"), true)
+                .set(DataQuery.of("byte"), (byte) -5)
+                .set(DataQuery.of("short"), Short.MIN_VALUE)
+                .set(DataQuery.of("float"), 1.5F)
+                .set(DataQuery.of("double"), -0.25D)
+                .set(DataQuery.of("char"), 'x')
+                .set(DataQuery.of("string"), "binary é世");
+
+        assertEquals(container, BinaryDataFormatTest.roundTrip(container));
+    }
+
+    @Test
+    void testNestedViews() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("a", "b", "c"), 1)
+                .set(DataQuery.of("a", "b", "d"), "deep")
+                .set(DataQuery.of("a", "e"), 2L)
+                .set(DataQuery.of("f"), 3);
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+        assertEquals(1, read.get(DataQuery.of("a", "b", "c")).get());
+        assertEquals("deep", read.get(DataQuery.of("a", "b", "d")).get());
+        assertEquals(container, read);
+    }
+
+    @Test
+    void testLazilyDecodedSlices() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("first", "value"), 1)
+                .set(DataQuery.of("second", "nested", "value"), "two")
+                .set(DataQuery.of("third"), 3);
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+        // Reading past a slice that wasn't decoded yet must not be affected by it
+        assertEquals(3, read.get(DataQuery.of("third")).get());
+        assertEquals("two", read.get(DataQuery.of("second", "nested", "value")).get());
+        assertEquals(1, read.get(DataQuery.of("first", "value")).get());
+        assertEquals(container.getKeys(true), read.getKeys(true));
+    }
+
+    @Test
+    void testMalformedSlice() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("view", "value"), "value")
+                .set(DataQuery.of("other"), 1);
+        final byte[] bytes = BinaryDataFormatTest.write(container);
+
+        // The body is decoded lazily, so only the header is read eagerly
+        final DataContainer read = BinaryDataFormatTest.read(Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(InvalidDataException.class, read::isEmpty);
+        // A failed decode must not leave a partially decoded view behind
+        assertThrows(InvalidDataException.class, () -> read.getKeys(false));
+    }
+
+    @Test
+    void testMalformedLazySlice() throws IOException {
+        final byte[] bytes = {
+                0x53, 0x50, 0x44, 0x42, 1, // magic and version
+                1, 1, 'a', // key dictionary
+                1, 0, 13, 3, // one view of three bytes under key "a"
+                1, 0, 99 // one entry with an unknown tag
+        };
+
+        final DataContainer read = BinaryDataFormatTest.read(bytes);
+        // The outer view only validates the bounds of the nested slice
+        assertEquals(1, read.getKeys(false).size());
+        final DataView view = read.getView(DataQuery.of("a")).get();
+        assertThrows(InvalidDataException.class, view::isEmpty);
+        assertThrows(InvalidDataException.class, () -> view.getKeys(false));
+    }
+
+    @Test
+    void testMalformedDictionary() {
+        // A negative key count
+        assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.read(new byte[] {
+                0x53, 0x50, 0x44, 0x42, 1,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F
+        }));
+        // A negative key length
+        assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.read(new byte[] {
+                0x53, 0x50, 0x44, 0x42, 1,
+                1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 'a'
+        }));
+        // A key longer than the remaining bytes
+        assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.read(new byte[] {
+                0x53, 0x50, 0x44, 0x42, 1,
+                1, 5, 'a'
+        }));
+    }
+
+    @Test
+    void testInvalidHeader() {
+        assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.read(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    @Disabled("Can't run these tests without access to a DataManager implementation")
+    void testArrays() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("bytes"), new byte[] {Byte.MIN_VALUE, 0, Byte.MAX_VALUE})
+                .set(DataQuery.of("shorts"), new short[] {Short.MIN_VALUE, 0, Short.MAX_VALUE})
+                .set(DataQuery.of("ints"), new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE})
+                .set(DataQuery.of("longs"), new long[] {Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE})
+                .set(DataQuery.of("floats"), new float[] {Float.MIN_VALUE, -1.0F, Float.MAX_VALUE})
+                .set(DataQuery.of("doubles"), new double[] {Double.MIN_VALUE, -1.0D, Double.MAX_VALUE})
+                .set(DataQuery.of("booleans"), new boolean[] {true, false, true})
+                .set(DataQuery.of("objects"), new Object[] {"a", 1, 2L});
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+        assertArrayEquals(new byte[] {Byte.MIN_VALUE, 0, Byte.MAX_VALUE}, (byte[]) read.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(new short[] {Short.MIN_VALUE, 0, Short.MAX_VALUE}, (short[]) read.get(DataQuery.of("shorts")).get());
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE}, (int[]) read.get(DataQuery.of("ints")).get());
+        assertArrayEquals(new long[] {Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE}, (long[]) read.get(DataQuery.of("longs")).get());
+        assertArrayEquals(new float[] {Float.MIN_VALUE, -1.0F, Float.MAX_VALUE}, (float[]) read.get(DataQuery.of("floats")).get());
+        assertArrayEquals(new double[] {Double.MIN_VALUE, -1.0D, Double.MAX_VALUE}, (double[]) read.get(DataQuery.of("doubles")).get());
+        assertArrayEquals(new boolean[] {true, false, true}, (boolean[]) read.get(DataQuery.of("booleans")).get());
+        assertArrayEquals(new Object[] {"a", 1, 2L}, (Object[]) read.get(DataQuery.of("objects")).get());
+    }
+
+    @Test
+    @Disabled("Can't run these tests without access to a DataManager implementation")
+    void testLists() throws IOException {
+        final DataContainer element = new MemoryDataContainer();
+        element.set(DataQuery.of("value"), 1);
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("strings"), Arrays.asList("a", "b", "c"))
+                .set(DataQuery.of("numbers"), Arrays.asList(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE))
+                .set(DataQuery.of("nested"), Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)))
+                .set(DataQuery.of("views"), Arrays.asList(element, element));
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+        assertEquals(Arrays.asList("a", "b", "c"), read.getList(DataQuery.of("strings")).get());
+        assertEquals(Arrays.asList(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE), read.getList(DataQuery.of("numbers")).get());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), read.getList(DataQuery.of("nested")).get());
+        final List<DataView> views = read.getViewList(DataQuery.of("views")).get();
+        assertEquals(2, views.size());
+        assertTrue(views.stream().allMatch(view -> view.getInt(DataQuery.of("value")).get() == 1));
+    }
+}
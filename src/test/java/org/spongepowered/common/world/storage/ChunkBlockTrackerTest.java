@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.NBTUtil;
+
+import java.util.Map;
+import java.util.UUID;
+
+final class ChunkBlockTrackerTest {
+
+    private static final UUID FIRST = new UUID(1, 1);
+    private static final UUID SECOND = new UUID(2, 2);
+    private static final UUID THIRD = new UUID(3, 3);
+
+    // Fits the short key
+    private static final BlockPos LOW = new BlockPos(3, 64, 12);
+    // Needs the int key
+    private static final BlockPos HIGH = new BlockPos(15, 300, 0);
+
+    @Test
+    void testCreatorAndNotifierArePackedSeparately() {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        assertTrue(tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST));
+        assertTrue(tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER, ChunkBlockTrackerTest.SECOND));
+        assertEquals(ChunkBlockTrackerTest.FIRST, tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR));
+        assertEquals(ChunkBlockTrackerTest.SECOND, tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER));
+
+        // Setting the same owner again doesn't change anything
+        assertFalse(tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST));
+
+        // Clearing one half keeps the other
+        assertTrue(tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, null));
+        assertNull(tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR));
+        assertEquals(ChunkBlockTrackerTest.SECOND, tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER));
+        assertEquals(1, tracker.size());
+
+        // An entry without either is removed
+        assertTrue(tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER, null));
+        assertTrue(tracker.isEmpty());
+    }
+
+    @Test
+    void testShortAndIntPositions() {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST);
+        tracker.set(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.SECOND);
+        assertEquals(1, tracker.getShortPositions().size());
+        assertEquals(1, tracker.getIntPositions().size());
+        assertEquals(ChunkBlockTrackerTest.FIRST, tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR));
+        assertEquals(ChunkBlockTrackerTest.SECOND, tracker.get(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.CREATOR));
+        // Only the position within the chunk is kept
+        assertEquals(ChunkBlockTrackerTest.FIRST, tracker.get(ChunkBlockTrackerTest.LOW.offset(16, 0, -16), PlayerTracker.Type.CREATOR));
+    }
+
+    @Test
+    void testPaletteHoldsEveryIdOnce() {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST);
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER, ChunkBlockTrackerTest.FIRST);
+        tracker.set(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.SECOND);
+
+        final Map<Short, PlayerTracker> shortPositions = tracker.getShortPositions();
+        final PlayerTracker low = shortPositions.values().iterator().next();
+        assertEquals(0, low.creatorindex);
+        assertEquals(0, low.notifierIndex);
+        final PlayerTracker high = tracker.getIntPositions().values().iterator().next();
+        assertEquals(1, high.creatorindex);
+        assertEquals(-1, high.notifierIndex);
+    }
+
+    @Test
+    void testRemove() {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST);
+        tracker.set(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.NOTIFIER, ChunkBlockTrackerTest.SECOND);
+
+        assertTrue(tracker.remove(ChunkBlockTrackerTest.LOW));
+        assertFalse(tracker.remove(ChunkBlockTrackerTest.LOW));
+        assertNull(tracker.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR));
+        assertTrue(tracker.remove(ChunkBlockTrackerTest.HIGH));
+        assertTrue(tracker.isEmpty());
+    }
+
+    @Test
+    void testWriteAndRead() {
+        final ChunkBlockTracker tracker = new ChunkBlockTracker();
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR, ChunkBlockTrackerTest.FIRST);
+        tracker.set(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER, ChunkBlockTrackerTest.SECOND);
+        tracker.set(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.NOTIFIER, ChunkBlockTrackerTest.THIRD);
+        // Only referenced by a removed position, so it isn't written
+        tracker.set(ChunkBlockTrackerTest.HIGH.above(), PlayerTracker.Type.CREATOR, new UUID(4, 4));
+        tracker.remove(ChunkBlockTrackerTest.HIGH.above());
+
+        // Laid out like ChunkSerializerMixin writes and reads it
+        final CompoundTag chunk = new CompoundTag();
+        final CompoundTag level = NBTUtil.getOrCreateCompound(chunk, Constants.Chunk.CHUNK_DATA_LEVEL);
+        tracker.write(NBTUtil.getOrCreateCompound(level, Constants.Sponge.SPONGE_DATA));
+
+        final CompoundTag spongeData = chunk.getCompound(Constants.Chunk.CHUNK_DATA_LEVEL).getCompound(Constants.Sponge.SPONGE_DATA);
+        assertTrue(ChunkBlockTracker.isPresent(spongeData));
+        assertEquals(3, spongeData.getList(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, Constants.NBT.TAG_INT_ARRAY).size());
+
+        final ChunkBlockTracker read = ChunkBlockTracker.read(spongeData);
+        assertEquals(2, read.size());
+        assertEquals(ChunkBlockTrackerTest.FIRST, read.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.CREATOR));
+        assertEquals(ChunkBlockTrackerTest.SECOND, read.get(ChunkBlockTrackerTest.LOW, PlayerTracker.Type.NOTIFIER));
+        assertNull(read.get(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.CREATOR));
+        assertEquals(ChunkBlockTrackerTest.THIRD, read.get(ChunkBlockTrackerTest.HIGH, PlayerTracker.Type.NOTIFIER));
+        // Read positions fitting the short key end up there again
+        assertEquals(1, read.getShortPositions().size());
+        assertEquals(1, read.getIntPositions().size());
+    }
+
+    @Test
+    void testReadDropsIndicesOutsideThePalette() {
+        final CompoundTag compound = new CompoundTag();
+        final ListTag palette = new ListTag();
+        palette.add(NbtUtils.createUUID(ChunkBlockTrackerTest.FIRST));
+        compound.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, palette);
+        compound.putIntArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, new int[] {
+                // Creator 0, no notifier
+                1 << 28 | 64, 0xFFFF,
+                // Creator 5, which isn't in the palette
+                2 << 28 | 64, 5 << 16 | 0xFFFF
+        });
+
+        final ChunkBlockTracker read = ChunkBlockTracker.read(compound);
+        assertEquals(1, read.size());
+        assertEquals(ChunkBlockTrackerTest.FIRST, read.get(new BlockPos(1, 64, 0), PlayerTracker.Type.CREATOR));
+        assertNull(read.get(new BlockPos(1, 64, 0), PlayerTracker.Type.NOTIFIER));
+        assertNull(read.get(new BlockPos(2, 64, 0), PlayerTracker.Type.CREATOR));
+    }
+}